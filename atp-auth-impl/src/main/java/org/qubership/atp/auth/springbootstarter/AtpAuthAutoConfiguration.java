@@ -16,12 +16,15 @@
 
 package org.qubership.atp.auth.springbootstarter;
 
+import org.qubership.atp.auth.springbootstarter.config.AtpAuthorizeConfiguration;
+import org.qubership.atp.auth.springbootstarter.config.CacheSnapshotConfiguration;
 import org.qubership.atp.auth.springbootstarter.config.DisableSecurityConfiguration;
 import org.qubership.atp.auth.springbootstarter.config.FeignConfiguration;
 import org.qubership.atp.auth.springbootstarter.config.HttpClientsConfiguration;
 import org.qubership.atp.auth.springbootstarter.config.KafkaConfig;
 import org.qubership.atp.auth.springbootstarter.config.SecurityConfiguration;
 import org.qubership.atp.auth.springbootstarter.config.ServiceConfiguration;
+import org.qubership.atp.auth.springbootstarter.config.WarmUpConfiguration;
 import org.qubership.atp.auth.springbootstarter.handlers.GlobalExceptionHandler;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Configuration;
@@ -31,10 +34,13 @@ import org.springframework.context.annotation.Import;
 @EnableCaching
 @Import({ServiceConfiguration.class,
         SecurityConfiguration.class,
+        AtpAuthorizeConfiguration.class,
         DisableSecurityConfiguration.class,
         HttpClientsConfiguration.class,
         FeignConfiguration.class,
         GlobalExceptionHandler.class,
-        KafkaConfig.class})
+        KafkaConfig.class,
+        CacheSnapshotConfiguration.class,
+        WarmUpConfiguration.class})
 public class AtpAuthAutoConfiguration {
 }
@@ -0,0 +1,71 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import org.qubership.atp.auth.springbootstarter.security.permissions.AtpAuthorize;
+import org.qubership.atp.auth.springbootstarter.security.permissions.AtpAuthorizeAuthorizationManager;
+import org.qubership.atp.auth.springbootstarter.security.permissions.PolicyEnforcement;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Method security interceptor of {@link AtpAuthorize} annotation.
+ * It's applied in the same order as {@code @PreAuthorize} interceptor.
+ */
+@Configuration
+@Profile("default")
+public class AtpAuthorizeConfiguration {
+
+    /**
+     * Create authorization manager of methods annotated with AtpAuthorize.
+     * It's a BeanPostProcessor resolving the annotations at startup.
+     *
+     * @param policyEnforcement provider of PolicyEnforcement bean
+     * @return AtpAuthorizeAuthorizationManager object.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static AtpAuthorizeAuthorizationManager atpAuthorizeAuthorizationManager(
+            final ObjectProvider<PolicyEnforcement> policyEnforcement) {
+        return new AtpAuthorizeAuthorizationManager(SingletonSupplier.of(policyEnforcement::getObject));
+    }
+
+    /**
+     * Create interceptor of methods annotated with AtpAuthorize.
+     *
+     * @param atpAuthorizeAuthorizationManager authorization manager of annotated methods
+     * @return Advisor object.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor atpAuthorizeAdvisor(final AtpAuthorizeAuthorizationManager atpAuthorizeAuthorizationManager) {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                new AnnotationMatchingPointcut(null, AtpAuthorize.class, true), atpAuthorizeAuthorizationManager);
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+}
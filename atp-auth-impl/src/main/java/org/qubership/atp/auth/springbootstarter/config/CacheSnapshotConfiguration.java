@@ -0,0 +1,94 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.atp.auth.springbootstarter.services.UsersService;
+import org.qubership.atp.auth.springbootstarter.services.snapshot.PermissionCacheSnapshotCodec;
+import org.qubership.atp.auth.springbootstarter.services.snapshot.PermissionCacheSnapshotter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Warm start of permission caches from a snapshot on a local or shared volume.
+ * The path and the signing secret have no defaults: the snapshot grants permissions,
+ * so it must be kept in a location chosen explicitly and can't be replaced without the secret.
+ */
+@Configuration
+@ConditionalOnProperty(name = "atp-auth.cache.snapshot.enabled", havingValue = "true")
+public class CacheSnapshotConfiguration {
+
+    /**
+     * Path of the snapshot file; required.
+     */
+    @Value("${atp-auth.cache.snapshot.path:}")
+    private String path;
+
+    /**
+     * Secret to sign the snapshot file with HMAC-SHA256; required.
+     */
+    @Value("${atp-auth.cache.snapshot.secret:}")
+    private String secret;
+
+    /**
+     * Interval between snapshots.
+     */
+    @Value("${atp-auth.cache.snapshot.interval:5m}")
+    private Duration interval;
+
+    /**
+     * Maximum age of the snapshot to be loaded at startup; should not exceed TTL of the permission caches.
+     */
+    @Value("${atp-auth.cache.snapshot.max-age:2m}")
+    private Duration maxAge;
+
+    /**
+     * Maximum number of loaded entries revalidated concurrently.
+     */
+    @Value("${atp-auth.cache.snapshot.revalidation-parallelism:4}")
+    private int revalidationParallelism;
+
+    /**
+     * Create snapshotter of permission caches.
+     *
+     * @param cacheManager cache manager holding the permission caches
+     * @param usersService users service to revalidate loaded entries
+     * @return PermissionCacheSnapshotter object.
+     */
+    @Bean
+    public PermissionCacheSnapshotter permissionCacheSnapshotter(final CacheManager cacheManager,
+                                                                 final UsersService usersService) {
+        if (StringUtils.isBlank(path) || StringUtils.isBlank(secret)) {
+            throw new IllegalStateException("'atp-auth.cache.snapshot.path' and 'atp-auth.cache.snapshot.secret' "
+                    + "must be set when 'atp-auth.cache.snapshot.enabled' is true");
+        }
+        return new PermissionCacheSnapshotter(cacheManager, usersService, new PermissionCacheSnapshotter.Settings(
+                Path.of(path),
+                new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
+                        PermissionCacheSnapshotCodec.SIGNATURE_ALGORITHM),
+                interval, maxAge, revalidationParallelism));
+    }
+}
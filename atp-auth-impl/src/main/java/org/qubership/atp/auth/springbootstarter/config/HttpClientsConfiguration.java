@@ -16,45 +16,149 @@
 
 package org.qubership.atp.auth.springbootstarter.config;
 
-import java.security.KeyManagementException;
-import java.security.KeyStoreException;
-import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 
 import javax.net.ssl.SSLContext;
 
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
-import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
-import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
 @Configuration
+@Import(TlsConfiguration.class)
 public class HttpClientsConfiguration {
 
+    /**
+     * Name of the connection pool in metrics.
+     */
+    private static final String CONNECTION_POOL_NAME = "atp-auth-ssl-http-client";
+
+    /**
+     * Maximum total number of pooled connections.
+     */
+    @Value("${atp-auth.http.max-total:200}")
+    private int maxTotal;
+
+    /**
+     * Maximum number of pooled connections per route (host).
+     */
+    @Value("${atp-auth.http.max-per-route:50}")
+    private int maxPerRoute;
+
+    /**
+     * Total time to live of a pooled connection.
+     */
+    @Value("${atp-auth.http.connection-ttl:5m}")
+    private Duration connectionTtl;
+
+    /**
+     * Connections idle longer than this are evicted from the pool in background.
+     */
+    @Value("${atp-auth.http.idle-eviction:1m}")
+    private Duration idleEviction;
+
+    /**
+     * Period of inactivity after which a pooled connection is validated before reuse.
+     */
+    @Value("${atp-auth.http.validate-after-inactivity:2s}")
+    private Duration validateAfterInactivity;
+
+    /**
+     * Timeout to establish a connection; default is the same as Apache HttpClient default.
+     */
+    @Value("${atp-auth.http.connect-timeout:3m}")
+    private Duration connectTimeout;
+
+    /**
+     * Timeout to wait for a response; default is the same as Apache HttpClient default socket timeout.
+     */
+    @Value("${atp-auth.http.response-timeout:3m}")
+    private Duration responseTimeout;
+
+    /**
+     * Timeout to lease a connection from the pool; default is the same as Apache HttpClient default.
+     */
+    @Value("${atp-auth.http.connection-request-timeout:3m}")
+    private Duration connectionRequestTimeout;
+
+    /**
+     * Maximum keep-alive of a connection; shorter value sent by server in 'Keep-Alive' header takes precedence.
+     */
+    @Value("${atp-auth.http.keep-alive:3m}")
+    private Duration keepAlive;
+
     /**
      * Http client with trusted ssl certificate.
      *
      * @param sslContext SSLContext object
+     * @param meterRegistry MeterRegistry to register connection pool metrics, if available
      * @return HttpClient object created and configured.
      */
     @Bean
-    public HttpClient sslHttpClient(final SSLContext sslContext) {
+    public HttpClient sslHttpClient(final SSLContext sslContext, final ObjectProvider<MeterRegistry> meterRegistry) {
         TlsSocketStrategy tlsStrategy = new DefaultClientTlsStrategy(sslContext, NoopHostnameVerifier.INSTANCE);
-        HttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
                 .setTlsSocketStrategy(tlsStrategy)
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .setValidateAfterInactivity(TimeValue.of(validateAfterInactivity))
+                        .build())
                 .build();
+        meterRegistry.ifAvailable(registry ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, CONNECTION_POOL_NAME)
+                        .bindTo(registry));
         return HttpClients.custom()
                 .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .setKeepAliveStrategy(keepAliveStrategy(TimeValue.of(keepAlive)))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
                 .build();
     }
 
+    /**
+     * Keep-alive strategy honoring 'Keep-Alive' response header, but not longer than maximum configured.
+     *
+     * @param maxKeepAlive maximum keep-alive duration
+     * @return ConnectionKeepAliveStrategy object.
+     */
+    private ConnectionKeepAliveStrategy keepAliveStrategy(final TimeValue maxKeepAlive) {
+        return (response, context) -> {
+            TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                    .getKeepAliveDuration(response, context);
+            return TimeValue.isPositive(serverKeepAlive) && serverKeepAlive.compareTo(maxKeepAlive) < 0
+                    ? serverKeepAlive
+                    : maxKeepAlive;
+        };
+    }
+
     /**
      * RequestFactory with ignore ssl certificate verification.
      *
@@ -68,17 +172,4 @@ public class HttpClientsConfiguration {
         return sslRequestFactory;
     }
 
-    /**
-     * Ssl context which ignore ssl verification.
-     *
-     * @return SSLContext object created and configured.
-     */
-    @Bean
-    public SSLContext ignoreVerifySslContext()
-            throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
-        return SSLContexts.custom()
-                .loadTrustMaterial(null, (x, y) -> true)
-                .build();
-    }
-
 }
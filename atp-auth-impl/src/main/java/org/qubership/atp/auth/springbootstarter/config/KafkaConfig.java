@@ -17,20 +17,38 @@
 package org.qubership.atp.auth.springbootstarter.config;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.serialization.UUIDDeserializer;
 import org.apache.kafka.common.serialization.UUIDSerializer;
+import org.qubership.atp.auth.springbootstarter.services.view.ProjectPermissionView;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.TopicPartitionOffset;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 @Configuration
 @ConditionalOnProperty(name = "kafka.enable", havingValue = "true")
@@ -60,6 +78,18 @@ public class KafkaConfig {
     @Value("${spring.kafka.producer.bootstrap-servers}")
     private String kafkaServers;
 
+    /**
+     * Log-compacted topic of project permission records to build the local view from.
+     */
+    @Value("${kafka.project.permissions.topic:project_permissions}")
+    private String kafkaProjectPermissionsTopic;
+
+    /**
+     * Kafka bootstrap servers to consume project permission records from.
+     */
+    @Value("${spring.kafka.consumer.bootstrap-servers:${spring.kafka.producer.bootstrap-servers}}")
+    private String kafkaConsumerServers;
+
     /**
      * Create KafkaTemplate for service entities.
      *
@@ -87,4 +117,67 @@ public class KafkaConfig {
                 .build();
     }
 
+    /**
+     * Create local materialized view of project permissions.
+     *
+     * @param feignClientObjectMapper mapper to read Project JSON, the same as for users service responses
+     * @param meterRegistry registry of view meters
+     * @return ProjectPermissionView object.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "kafka.project.permissions.view.enable", havingValue = "true")
+    public ProjectPermissionView projectPermissionView(
+            @Qualifier("feignClientObjectMapper") final ObjectMapper feignClientObjectMapper,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        ProjectPermissionView view = new ProjectPermissionView(feignClientObjectMapper);
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder("atp.auth.permission-view.lag", view, ProjectPermissionView::getLag)
+                .description("Project permission records not consumed into the local view yet")
+                .register(registry);
+        Gauge.builder("atp.auth.permission-view.size", view, ProjectPermissionView::size)
+                .description("Projects in the local permission view")
+                .register(registry);
+        return view;
+    }
+
+    /**
+     * Create container consuming the project permissions topic into the local view.
+     * Partitions of the topic are discovered at start, and all of them are assigned manually and read
+     * from the beginning, without consumer group, so each pod reads the whole topic and no offsets are committed.
+     * Start fails if the topic isn't found.
+     *
+     * @param projectPermissionView local view of project permissions
+     * @return ConcurrentMessageListenerContainer object.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "kafka.project.permissions.view.enable", havingValue = "true")
+    public ConcurrentMessageListenerContainer<UUID, String> projectPermissionViewContainer(
+            final ProjectPermissionView projectPermissionView) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConsumerServers);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, false);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, UUIDDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        DefaultKafkaConsumerFactory<UUID, String> consumerFactory = new DefaultKafkaConsumerFactory<>(props);
+        ContainerProperties containerProperties = new ContainerProperties(
+                discoverPartitions(consumerFactory, kafkaProjectPermissionsTopic).stream()
+                        .map(partition -> new TopicPartitionOffset(kafkaProjectPermissionsTopic,
+                                partition.partition(), TopicPartitionOffset.SeekPosition.BEGINNING))
+                        .toArray(TopicPartitionOffset[]::new));
+        containerProperties.setMessageListener(projectPermissionView);
+        return new ConcurrentMessageListenerContainer<>(consumerFactory, containerProperties);
+    }
+
+    private static List<PartitionInfo> discoverPartitions(final DefaultKafkaConsumerFactory<UUID, String> factory,
+                                                          final String topic) {
+        List<PartitionInfo> partitions;
+        try (Consumer<UUID, String> consumer = factory.createConsumer()) {
+            partitions = consumer.partitionsFor(topic);
+        }
+        if (partitions == null || partitions.isEmpty()) {
+            throw new IllegalStateException("Topic '" + topic + "' of project permissions isn't found");
+        }
+        return partitions;
+    }
 }
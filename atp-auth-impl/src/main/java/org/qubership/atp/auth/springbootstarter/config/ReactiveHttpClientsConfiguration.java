@@ -16,26 +16,119 @@
 
 package org.qubership.atp.auth.springbootstarter.config;
 
+import java.time.Duration;
+import java.util.Locale;
+
+import javax.net.ssl.SSLContext;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
 import io.netty.handler.ssl.SslContext;
-import io.netty.handler.ssl.SslContextBuilder;
-import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import reactor.netty.http.HttpResources;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
+@Import(TlsConfiguration.class)
 public class ReactiveHttpClientsConfiguration {
 
+    /**
+     * Name of the connection pool; it's used as 'name' tag of reactor.netty.connection.provider.* metrics.
+     */
+    private static final String CONNECTION_PROVIDER_NAME = "atp-auth-relay";
+
+    /**
+     * Maximum number of connections per remote host.
+     */
+    @Value("${atp-auth.webclient.pool.max-connections:100}")
+    private int maxConnections;
+
+    /**
+     * Maximum number of requests waiting for a connection; -1 means no limit.
+     */
+    @Value("${atp-auth.webclient.pool.pending-acquire-max-count:1000}")
+    private int pendingAcquireMaxCount;
+
+    /**
+     * Timeout to wait for a connection from the pool.
+     */
+    @Value("${atp-auth.webclient.pool.pending-acquire-timeout:45s}")
+    private Duration pendingAcquireTimeout;
+
+    /**
+     * Connections idle longer than this are closed.
+     */
+    @Value("${atp-auth.webclient.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    /**
+     * Total time to live of a connection.
+     */
+    @Value("${atp-auth.webclient.pool.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    /**
+     * Interval of background eviction of idle/expired connections.
+     */
+    @Value("${atp-auth.webclient.pool.evict-in-background:30s}")
+    private Duration evictInBackground;
+
+    /**
+     * Leasing strategy of the pool: 'fifo' or 'lifo'.
+     */
+    @Value("${atp-auth.webclient.pool.leasing-strategy:fifo}")
+    private String leasingStrategy;
+
+    /**
+     * Use native transport (epoll on Linux) if it's available in classpath.
+     */
+    @Value("${atp-auth.webclient.prefer-native:true}")
+    private boolean preferNative;
+
+    /**
+     * Connection pool dedicated to relay webclient.
+     *
+     * @return ConnectionProvider created and configured.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider relayConnectionProvider() {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(CONNECTION_PROVIDER_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true);
+        switch (leasingStrategy.trim().toLowerCase(Locale.ROOT)) {
+            case "fifo" -> builder.fifo();
+            case "lifo" -> builder.lifo();
+            default -> throw new IllegalStateException("Unknown 'atp-auth.webclient.pool.leasing-strategy' value '"
+                    + leasingStrategy + "', expected 'fifo' or 'lifo'");
+        }
+        return builder.build();
+    }
+
     /**
      * HttpConnector for webclient.
      */
     @Bean
-    public ClientHttpConnector sslClientHttpConnector(SslContext sslContext) {
+    public ClientHttpConnector sslClientHttpConnector(
+            SslContext sslContext,
+            @Qualifier("relayConnectionProvider") ConnectionProvider relayConnectionProvider) {
         HttpClient httpClient = HttpClient
-                .create()
+                .create(relayConnectionProvider)
+                .runOn(HttpResources.get(), preferNative)
                 .secure(x -> x.sslContext(sslContext));
 
         return new ReactorClientHttpConnector(httpClient);
@@ -43,12 +136,12 @@ public class ReactiveHttpClientsConfiguration {
 
     /**
      * Ssl context which ignore ssl verification.
+     * It wraps the SSLContext shared with blocking http client, so TLS sessions cache is shared too.
      */
     @Bean
-    public SslContext reactiveIgnoreVerifySslContext() throws Exception {
-        return SslContextBuilder
-                .forClient()
-                .trustManager(InsecureTrustManagerFactory.INSTANCE)
-                .build();
+    public SslContext reactiveIgnoreVerifySslContext(
+            @Qualifier("ignoreVerifySslContext") SSLContext ignoreVerifySslContext) {
+        return new JdkSslContext(ignoreVerifySslContext, true, null, IdentityCipherSuiteFilter.INSTANCE,
+                ApplicationProtocolConfig.DISABLED, ClientAuth.NONE, null, false);
     }
 }
@@ -16,16 +16,28 @@
 
 package org.qubership.atp.auth.springbootstarter.config;
 
+import java.time.Clock;
+import java.time.Duration;
+
+import org.qubership.atp.auth.springbootstarter.security.oauth2.resource.AtpJwtAuthenticationConverter;
+import org.qubership.atp.auth.springbootstarter.security.oauth2.resource.CachingJwtAuthenticationConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.web.SecurityFilterChain;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -44,6 +56,36 @@ public class SecurityConfiguration {
     @Value("${atp-auth.headers.content-security-policy:default-src 'self' *}")
     private String contentSecurityPolicy;
 
+    /**
+     * Dot-separated path of JWT claim holding user roles.
+     */
+    @Value("${atp-auth.jwt.roles-claim:realm_access.roles}")
+    private String jwtRolesClaim;
+
+    /**
+     * JWT claim holding principal name.
+     */
+    @Value("${atp-auth.jwt.principal-claim:sub}")
+    private String jwtPrincipalClaim;
+
+    /**
+     * Turn on caching of JWT conversion results until the token expires.
+     */
+    @Value("${atp-auth.jwt.cache.enabled:false}")
+    private boolean jwtCacheEnabled;
+
+    /**
+     * Maximum number of cached tokens.
+     */
+    @Value("${atp-auth.jwt.cache.max-size:10000}")
+    private long jwtCacheMaxSize;
+
+    /**
+     * Maximum time to keep a cached token.
+     */
+    @Value("${atp-auth.jwt.cache.max-ttl:1h}")
+    private Duration jwtCacheMaxTtl;
+
     /**
      * Configure HTTP Security.
      * @param http HTTP Security
@@ -68,4 +110,23 @@ public class SecurityConfiguration {
         configureHttpSecurity(http);
         return http.build();
     }
+
+    /**
+     * Converter of JWT into authentication carrying bitmask of ATP roles;
+     * conversion results are cached if 'atp-auth.jwt.cache.enabled' is true.
+     *
+     * @param meterRegistry provider of registry of cache meters
+     * @return Converter object.
+     */
+    @Bean
+    public Converter<Jwt, AbstractAuthenticationToken> atpJwtAuthenticationConverter(
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        AtpJwtAuthenticationConverter converter = new AtpJwtAuthenticationConverter(jwtRolesClaim, jwtPrincipalClaim);
+        if (!jwtCacheEnabled) {
+            return converter;
+        }
+        return new CachingJwtAuthenticationConverter(converter,
+                new CachingJwtAuthenticationConverter.Settings(jwtCacheMaxSize, jwtCacheMaxTtl),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), Clock.systemUTC());
+    }
 }
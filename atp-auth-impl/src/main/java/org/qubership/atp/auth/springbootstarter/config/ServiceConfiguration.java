@@ -16,35 +16,264 @@
 
 package org.qubership.atp.auth.springbootstarter.config;
 
+import java.time.Duration;
+import java.util.Set;
 import java.util.UUID;
 
 import org.qubership.atp.auth.springbootstarter.services.UsersService;
+import org.qubership.atp.auth.springbootstarter.services.access.UserProjectAccessIndex;
 import org.qubership.atp.auth.springbootstarter.services.client.UsersFeignClient;
+import org.qubership.atp.auth.springbootstarter.services.client.resilience.CircuitBreakingUsersFeignClient;
+import org.qubership.atp.auth.springbootstarter.services.client.resilience.ConcurrencyLimitingUsersFeignClient;
+import org.qubership.atp.auth.springbootstarter.services.client.resilience.HedgingUsersFeignClient;
+import org.qubership.atp.auth.springbootstarter.services.offheap.OffHeapPermissionStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.KafkaTemplate;
 
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.RequiredArgsConstructor;
 
 @Configuration
-@AllArgsConstructor
+@RequiredArgsConstructor
 @EnableFeignClients("org.qubership.atp.auth.springbootstarter.services.client")
 public class ServiceConfiguration {
 
     private final UsersFeignClient usersFeignClient;
 
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Turn on circuit breaker around users service client.
+     */
+    @Value("${atp-auth.users.circuit-breaker.enabled:false}")
+    private boolean circuitBreakerEnabled;
+
+    /**
+     * Number of last calls to calculate failure rate.
+     */
+    @Value("${atp-auth.users.circuit-breaker.window-size:50}")
+    private int circuitBreakerWindowSize;
+
+    /**
+     * Minimum number of recorded calls to calculate failure rate.
+     */
+    @Value("${atp-auth.users.circuit-breaker.minimum-calls:10}")
+    private int circuitBreakerMinimumCalls;
+
+    /**
+     * Failure rate (percents) to open the circuit breaker.
+     */
+    @Value("${atp-auth.users.circuit-breaker.failure-rate-threshold:50}")
+    private int circuitBreakerFailureRateThreshold;
+
+    /**
+     * Time to keep the circuit breaker open before trial calls.
+     */
+    @Value("${atp-auth.users.circuit-breaker.open-duration:30s}")
+    private Duration circuitBreakerOpenDuration;
+
+    /**
+     * Number of trial calls in half open state.
+     */
+    @Value("${atp-auth.users.circuit-breaker.half-open-calls:3}")
+    private int circuitBreakerHalfOpenCalls;
+
+    /**
+     * Time to keep last successful results to answer calls while the users service is unavailable;
+     * zero means fail fast.
+     */
+    @Value("${atp-auth.users.circuit-breaker.max-staleness:1h}")
+    private Duration circuitBreakerMaxStaleness;
+
+    /**
+     * Maximum number of kept last successful results.
+     */
+    @Value("${atp-auth.users.circuit-breaker.stale-max-size:10000}")
+    private long circuitBreakerStaleMaxSize;
+
+    /**
+     * Turn on hedging of slow read calls to users service.
+     */
+    @Value("${atp-auth.users.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
+    /**
+     * Names of users service client methods to hedge.
+     */
+    @Value("${atp-auth.users.hedging.methods:getUsersByProject,getObjectPermissionsByObjectId,"
+            + "getObjectPermissionsByServiceName,getObjectPermissionIndexByServiceName}")
+    private Set<String> hedgingMethods;
+
+    /**
+     * Percentile of recent latencies to wait before hedging, from 0 to 1.
+     */
+    @Value("${atp-auth.users.hedging.percentile:0.95}")
+    private double hedgingPercentile;
+
+    /**
+     * Number of recent latencies kept per method.
+     */
+    @Value("${atp-auth.users.hedging.window-size:1000}")
+    private int hedgingWindowSize;
+
+    /**
+     * Delay before hedging until enough latencies are recorded.
+     */
+    @Value("${atp-auth.users.hedging.initial-delay:100ms}")
+    private Duration hedgingInitialDelay;
+
+    /**
+     * Minimum delay before hedging.
+     */
+    @Value("${atp-auth.users.hedging.min-delay:20ms}")
+    private Duration hedgingMinDelay;
+
+    /**
+     * Fraction of calls which can be hedged.
+     */
+    @Value("${atp-auth.users.hedging.budget.ratio:0.05}")
+    private double hedgingBudgetRatio;
+
+    /**
+     * Maximum number of hedges in a burst.
+     */
+    @Value("${atp-auth.users.hedging.budget.max-tokens:10}")
+    private int hedgingBudgetMaxTokens;
+
+    /**
+     * Turn on adaptive concurrency limit of calls to users service.
+     */
+    @Value("${atp-auth.users.concurrency-limit.enabled:false}")
+    private boolean concurrencyLimitEnabled;
+
+    /**
+     * Initial concurrency limit.
+     */
+    @Value("${atp-auth.users.concurrency-limit.initial-limit:20}")
+    private int concurrencyLimitInitial;
+
+    /**
+     * Minimum concurrency limit.
+     */
+    @Value("${atp-auth.users.concurrency-limit.min-limit:5}")
+    private int concurrencyLimitMin;
+
+    /**
+     * Maximum concurrency limit.
+     */
+    @Value("${atp-auth.users.concurrency-limit.max-limit:200}")
+    private int concurrencyLimitMax;
+
+    /**
+     * Multiplier applied to the limit on a dropped or slow call.
+     */
+    @Value("${atp-auth.users.concurrency-limit.backoff-ratio:0.9}")
+    private double concurrencyLimitBackoffRatio;
+
+    /**
+     * Latency treated as overload of users service.
+     */
+    @Value("${atp-auth.users.concurrency-limit.latency-threshold:2s}")
+    private Duration concurrencyLimitLatencyThreshold;
+
+    /**
+     * Maximum number of calls waiting for a permit.
+     */
+    @Value("${atp-auth.users.concurrency-limit.max-queued:100}")
+    private int concurrencyLimitMaxQueued;
+
+    /**
+     * Maximum time to wait for a permit.
+     */
+    @Value("${atp-auth.users.concurrency-limit.queue-timeout:500ms}")
+    private Duration concurrencyLimitQueueTimeout;
+
+    /**
+     * Time to keep projects and object permissions in the off-heap store.
+     */
+    @Value("${atp-auth.off-heap.ttl:5m}")
+    private Duration offHeapTtl;
+
+    /**
+     * Time to keep projects and users in the per-user access index.
+     */
+    @Value("${atp-auth.access-index.ttl:5m}")
+    private Duration accessIndexTtl;
+
     @Bean
     @ConditionalOnProperty(name = "kafka.enable", havingValue = "false", matchIfMissing = true)
     public UsersService usersService() {
-        return new UsersService(usersFeignClient, null);
+        return new UsersService(decorate(usersFeignClient), null);
     }
 
     @Bean
     @ConditionalOnProperty(name = "kafka.enable", havingValue = "true")
     public UsersService usersServiceWithKafka(KafkaTemplate<UUID, String> kafkaServiceEntitiesTemplate) {
-        return new UsersService(usersFeignClient, kafkaServiceEntitiesTemplate);
+        return new UsersService(decorate(usersFeignClient), kafkaServiceEntitiesTemplate);
+    }
+
+    /**
+     * Create off-heap store of project members and object permissions.
+     *
+     * @return OffHeapPermissionStore object.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "atp-auth.off-heap.enabled", havingValue = "true")
+    public OffHeapPermissionStore offHeapPermissionStore() {
+        OffHeapPermissionStore store = new OffHeapPermissionStore(offHeapTtl, System::nanoTime);
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder("atp.auth.off-heap.footprint", store, OffHeapPermissionStore::footprint)
+                .description("Off-heap memory taken by project members and object permissions")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("atp.auth.off-heap.projects", store, OffHeapPermissionStore::size)
+                .description("Projects in the off-heap store")
+                .register(registry);
+        return store;
     }
 
+    /**
+     * Create per-user index of project access.
+     *
+     * @return UserProjectAccessIndex object.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "atp-auth.access-index.enabled", havingValue = "true")
+    public UserProjectAccessIndex userProjectAccessIndex() {
+        UserProjectAccessIndex index = new UserProjectAccessIndex(accessIndexTtl, System::nanoTime);
+        Gauge.builder("atp.auth.access-index.users", index, UserProjectAccessIndex::size)
+                .description("Users in the per-user project access index")
+                .register(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        return index;
+    }
+
+    private UsersFeignClient decorate(final UsersFeignClient client) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        UsersFeignClient decorated = client;
+        if (concurrencyLimitEnabled) {
+            decorated = new ConcurrencyLimitingUsersFeignClient(decorated,
+                    new ConcurrencyLimitingUsersFeignClient.Settings(concurrencyLimitInitial, concurrencyLimitMin,
+                            concurrencyLimitMax, concurrencyLimitBackoffRatio, concurrencyLimitLatencyThreshold,
+                            concurrencyLimitMaxQueued, concurrencyLimitQueueTimeout), registry);
+        }
+        if (hedgingEnabled) {
+            decorated = new HedgingUsersFeignClient(decorated, new HedgingUsersFeignClient.Settings(
+                    hedgingMethods, hedgingPercentile, hedgingWindowSize, hedgingInitialDelay, hedgingMinDelay,
+                    hedgingBudgetRatio, hedgingBudgetMaxTokens), registry);
+        }
+        if (circuitBreakerEnabled) {
+            decorated = new CircuitBreakingUsersFeignClient(decorated, new CircuitBreakingUsersFeignClient.Settings(
+                    circuitBreakerWindowSize, circuitBreakerMinimumCalls, circuitBreakerFailureRateThreshold,
+                    circuitBreakerOpenDuration, circuitBreakerHalfOpenCalls, circuitBreakerMaxStaleness,
+                    circuitBreakerStaleMaxSize), registry);
+        }
+        return decorated;
+    }
 }
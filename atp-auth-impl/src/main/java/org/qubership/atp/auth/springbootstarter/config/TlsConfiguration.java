@@ -0,0 +1,71 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TLS configuration shared by blocking (Apache http client) and reactive (Reactor Netty) clients.
+ * Both clients use the same SSLContext, so TLS sessions negotiated by one of them
+ * are resumed by another one, instead of full handshake per each new pooled connection.
+ */
+@Configuration
+public class TlsConfiguration {
+
+    /**
+     * Maximum number of client TLS sessions cached for resumption.
+     */
+    @Value("${atp-auth.tls.session-cache-size:1000}")
+    private int sessionCacheSize;
+
+    /**
+     * Time during which cached client TLS session can be resumed.
+     */
+    @Value("${atp-auth.tls.session-timeout:4h}")
+    private Duration sessionTimeout;
+
+    /**
+     * Ssl context which ignore ssl verification.
+     *
+     * @return SSLContext object created and configured.
+     */
+    @Bean
+    public SSLContext ignoreVerifySslContext()
+            throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
+        SSLContext sslContext = SSLContexts.custom()
+                .loadTrustMaterial(null, (x, y) -> true)
+                .build();
+        configureSessionCache(sslContext.getClientSessionContext());
+        return sslContext;
+    }
+
+    private void configureSessionCache(final SSLSessionContext sessionContext) {
+        sessionContext.setSessionCacheSize(sessionCacheSize);
+        sessionContext.setSessionTimeout((int) sessionTimeout.toSeconds());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.qubership.atp.auth.springbootstarter.security.oauth2.client.config.Oauth2FeignClientInterceptor;
+import org.qubership.atp.auth.springbootstarter.services.UsersService;
+import org.qubership.atp.auth.springbootstarter.services.warmup.PermissionCacheWarmUpHealthIndicator;
+import org.qubership.atp.auth.springbootstarter.services.warmup.PermissionCacheWarmer;
+import org.qubership.atp.auth.springbootstarter.services.warmup.WarmUpProjectsProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Warm-up of permission caches for hot projects at startup.
+ */
+@Configuration
+@ConditionalOnProperty(name = "atp-auth.warm-up.enabled", havingValue = "true")
+public class WarmUpConfiguration {
+
+    /**
+     * IDs of projects to warm up.
+     */
+    @Value("${atp-auth.warm-up.project-ids:}")
+    private List<UUID> projectIds;
+
+    /**
+     * Maximum number of projects loaded concurrently.
+     */
+    @Value("${atp-auth.warm-up.parallelism:8}")
+    private int parallelism;
+
+    /**
+     * Maximum time to delay readiness of the application.
+     */
+    @Value("${atp-auth.warm-up.timeout:60s}")
+    private Duration timeout;
+
+    /**
+     * Create warmer of permission caches.
+     *
+     * @param usersService users service to load permissions via
+     * @param projectsProviders providers of hot projects
+     * @param oauth2FeignClientInterceptor interceptor to obtain M2M token via, if any
+     * @return PermissionCacheWarmer object.
+     */
+    @Bean
+    public PermissionCacheWarmer permissionCacheWarmer(
+            final UsersService usersService,
+            final ObjectProvider<WarmUpProjectsProvider> projectsProviders,
+            final ObjectProvider<Oauth2FeignClientInterceptor> oauth2FeignClientInterceptor) {
+        return new PermissionCacheWarmer(usersService, projectsProviders.orderedStream().toList(),
+                oauth2FeignClientInterceptor.getIfUnique(),
+                new PermissionCacheWarmer.Settings(projectIds, parallelism, timeout));
+    }
+
+    /**
+     * Health indicator of warm-up, registered when Spring Boot Actuator is present.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+    public static class WarmUpHealthConfiguration {
+
+        /**
+         * Create health indicator reporting progress of warm-up.
+         *
+         * @param permissionCacheWarmer warmer of permission caches
+         * @return PermissionCacheWarmUpHealthIndicator object.
+         */
+        @Bean
+        public PermissionCacheWarmUpHealthIndicator atpAuthWarmUpHealthIndicator(
+                final PermissionCacheWarmer permissionCacheWarmer) {
+            return new PermissionCacheWarmUpHealthIndicator(permissionCacheWarmer);
+        }
+    }
+}
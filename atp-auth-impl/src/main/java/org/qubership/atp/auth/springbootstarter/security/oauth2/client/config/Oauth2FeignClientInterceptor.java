@@ -138,6 +138,16 @@ public class Oauth2FeignClientInterceptor implements RequestInterceptor {
         }
     }
 
+    /**
+     * Obtain M2M token in advance (e.g. at startup), so the first request doesn't wait for it.
+     *
+     * @return true if the token is obtained.
+     */
+    public boolean prefetchM2MToken() {
+        String m2mToken = obtainM2MToken();
+        return m2mToken != null && !m2mToken.isEmpty();
+    }
+
     /**
      * Obtain M2M token using OAuth2AuthorizedClientManager.
      * Implements caching similar to the old accessTokenRequest.getExistingToken().
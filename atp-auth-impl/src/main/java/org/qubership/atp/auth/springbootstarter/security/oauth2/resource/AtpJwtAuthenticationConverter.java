@@ -0,0 +1,134 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.security.oauth2.resource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.qubership.atp.auth.springbootstarter.entities.Role;
+import org.qubership.atp.auth.springbootstarter.utils.UuidUtils;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+/**
+ * Converter of JWT into {@link AtpJwtAuthenticationToken}.
+ * Authorities are scopes of the token (as by default converter) plus roles of the user taken from the roles claim
+ * (Keycloak realm roles by default). Bitmask of ATP roles is computed here once per token.
+ * To use it, configure resource server with it:
+ * {@code http.oauth2ResourceServer(server -> server.jwt(jwt -> jwt.jwtAuthenticationConverter(converter)))}.
+ */
+public class AtpJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    /**
+     * Converter of scopes into authorities.
+     */
+    private final JwtGrantedAuthoritiesConverter scopesConverter = new JwtGrantedAuthoritiesConverter();
+
+    /**
+     * Path of the roles claim, e.g. 'realm_access.roles'.
+     */
+    private final String[] rolesClaimPath;
+
+    /**
+     * Name of the claim holding principal name.
+     */
+    private final String principalClaimName;
+
+    /**
+     * Constructor.
+     *
+     * @param rolesClaim dot-separated path of the roles claim
+     * @param principalClaimName name of the claim holding principal name.
+     */
+    public AtpJwtAuthenticationConverter(final String rolesClaim, final String principalClaimName) {
+        this.rolesClaimPath = rolesClaim.split("\\.");
+        this.principalClaimName = principalClaimName;
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(final Jwt jwt) {
+        return resolve(jwt).toAuthentication(jwt);
+    }
+
+    /**
+     * Resolve authorities, principal name, user UUID and role mask of the token.
+     *
+     * @param jwt token
+     * @return ResolvedToken object.
+     */
+    ResolvedToken resolve(final Jwt jwt) {
+        List<String> roles = getRoles(jwt);
+        Collection<GrantedAuthority> scopes = scopesConverter.convert(jwt);
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size() + (scopes == null ? 0 : scopes.size()));
+        if (scopes != null) {
+            authorities.addAll(scopes);
+        }
+        roles.forEach(role -> authorities.add(new SimpleGrantedAuthority(role)));
+        String name = jwt.getClaimAsString(principalClaimName);
+        String subject = jwt.getSubject();
+        UUID userId = subject != null && UuidUtils.isCanonical(subject, 0, subject.length())
+                ? UuidUtils.parse(subject)
+                : null;
+        return new ResolvedToken(List.copyOf(authorities), name == null ? subject : name, userId, Role.toMask(roles));
+    }
+
+    private List<String> getRoles(final Jwt jwt) {
+        Object claim = jwt.getClaims();
+        for (String segment : rolesClaimPath) {
+            claim = claim instanceof Map<?, ?> map ? map.get(segment) : null;
+        }
+        if (!(claim instanceof Collection<?> values)) {
+            return List.of();
+        }
+        List<String> roles = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value != null) {
+                roles.add(value.toString());
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * Resolved parts of authentication, independent of a request.
+     *
+     * @param authorities authorities of the user
+     * @param name principal name
+     * @param userId UUID of the user, or null
+     * @param roleMask bitmask of ATP roles.
+     */
+    record ResolvedToken(List<GrantedAuthority> authorities, String name, UUID userId, int roleMask) {
+
+        /**
+         * Create new authentication of the token.
+         *
+         * @param jwt token
+         * @return AtpJwtAuthenticationToken object.
+         */
+        AtpJwtAuthenticationToken toAuthentication(final Jwt jwt) {
+            return new AtpJwtAuthenticationToken(jwt, authorities, name, userId, roleMask);
+        }
+    }
+}
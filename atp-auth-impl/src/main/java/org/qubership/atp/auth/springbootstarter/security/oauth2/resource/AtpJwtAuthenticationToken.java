@@ -0,0 +1,114 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.security.oauth2.resource;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.qubership.atp.auth.springbootstarter.entities.Role;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * JwtAuthenticationToken carrying bitmask of ATP roles of the user, computed once by
+ * {@link AtpJwtAuthenticationConverter}, so role checks are bit tests instead of scans of authorities.
+ */
+public class AtpJwtAuthenticationToken extends JwtAuthenticationToken {
+
+    @Serial
+    private static final long serialVersionUID = 4103620532216127716L;
+
+    /**
+     * UUID of the user parsed from the subject, or null if the subject isn't UUID.
+     */
+    private final UUID userId;
+
+    /**
+     * Bitmask of ATP roles, see {@link Role#toMask(Collection)}.
+     */
+    private final int roleMask;
+
+    /**
+     * Constructor.
+     *
+     * @param jwt token
+     * @param authorities authorities of the user
+     * @param name principal name
+     * @param userId UUID of the user, or null
+     * @param roleMask bitmask of ATP roles.
+     */
+    public AtpJwtAuthenticationToken(final Jwt jwt,
+                                     final Collection<? extends GrantedAuthority> authorities,
+                                     final String name,
+                                     final UUID userId,
+                                     final int roleMask) {
+        super(jwt, authorities, name);
+        this.userId = userId;
+        this.roleMask = roleMask;
+    }
+
+    /**
+     * Get UUID of the user parsed from the subject.
+     *
+     * @return UUID of the user, or null if the subject isn't UUID.
+     */
+    public UUID getUserId() {
+        return userId;
+    }
+
+    /**
+     * Get bitmask of ATP roles.
+     *
+     * @return bitmask of roles.
+     */
+    public int getRoleMask() {
+        return roleMask;
+    }
+
+    /**
+     * Check if the user has the role.
+     *
+     * @param role Role to check
+     * @return true if the user has the role.
+     */
+    public boolean hasRole(final Role role) {
+        return role.isSet(roleMask);
+    }
+
+    /**
+     * Get bitmask of ATP roles of the authentication.
+     * For other authentications than AtpJwtAuthenticationToken the mask is computed from authority names.
+     *
+     * @param authentication Authentication object, may be null
+     * @return bitmask of roles.
+     */
+    public static int getRoleMask(final Authentication authentication) {
+        if (authentication instanceof AtpJwtAuthenticationToken token) {
+            return token.roleMask;
+        }
+        if (authentication == null) {
+            return 0;
+        }
+        return Role.toMask(authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.security.oauth2.resource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Converter of JWT caching resolved authorities, principal name, user UUID and role mask per token
+ * until the token expires (but not longer than 'maxTtl'), so repeated requests with the same token
+ * skip authority mapping and role extraction.
+ * Tokens are keyed by SHA-256 digest of the token value, so raw tokens aren't kept in memory
+ * (the 'jti' claim isn't used: it's unique per issuer only, and doesn't bind the token content).
+ * A new authentication object is created for each request from the cached parts,
+ * because request details are set into it later by the authentication provider.
+ */
+public class CachingJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    /**
+     * Name of the cache in metrics.
+     */
+    public static final String CACHE_NAME = "atp_auth_jwt";
+
+    /**
+     * Converter resolving tokens missing in the cache.
+     */
+    private final AtpJwtAuthenticationConverter delegate;
+
+    /**
+     * Prefix of keys built from the token value digest.
+     */
+    private static final String DIGEST_KEY_PREFIX = "sha256:";
+
+    /**
+     * Resolved tokens by token value digest.
+     */
+    private final Cache<String, CachedToken> cache;
+
+    /**
+     * Source of current time to compare with token expiration.
+     */
+    private final Clock clock;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate converter resolving tokens missing in the cache
+     * @param settings cache settings
+     * @param meterRegistry registry of cache meters
+     * @param clock source of current time.
+     */
+    public CachingJwtAuthenticationConverter(final AtpJwtAuthenticationConverter delegate,
+                                             final Settings settings,
+                                             final MeterRegistry meterRegistry,
+                                             final Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.maxSize())
+                .expireAfter(new TokenExpiry(settings.maxTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(final Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt != null && !expiresAt.isAfter(clock.instant())) {
+            return delegate.convert(jwt);
+        }
+        return cache.get(cacheKey(jwt), key -> new CachedToken(delegate.resolve(jwt), expiresAt))
+                .token()
+                .toAuthentication(jwt);
+    }
+
+    /**
+     * Get key of the token in the cache: SHA-256 digest of the token value.
+     *
+     * @param jwt token
+     * @return cache key.
+     */
+    static String cacheKey(final Jwt jwt) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(jwt.getTokenValue().getBytes(StandardCharsets.US_ASCII));
+            return DIGEST_KEY_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 isn't supported", e);
+        }
+    }
+
+    /**
+     * Get number of cached tokens.
+     *
+     * @return estimated number of cached tokens.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Cache settings.
+     *
+     * @param maxSize maximum number of cached tokens
+     * @param maxTtl maximum time to keep a token, also used for tokens without expiration.
+     */
+    public record Settings(long maxSize, Duration maxTtl) {
+    }
+
+    /**
+     * Expiry of cached tokens: at the token expiration, but not later than 'maxTtl' after caching.
+     * Reads and updates don't change the expiration.
+     */
+    private final class TokenExpiry implements Expiry<String, CachedToken> {
+
+        /**
+         * Maximum time to keep a token, in nanoseconds.
+         */
+        private final long maxTtlNanos;
+
+        private TokenExpiry(final Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final String key, final CachedToken cached, final long currentTime) {
+            if (cached.expiresAt() == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiration = TimeUnit.MILLISECONDS.toNanos(cached.expiresAt().toEpochMilli() - clock.millis());
+            return Math.max(0, Math.min(untilExpiration, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CachedToken cached,
+                                      final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CachedToken cached,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Resolved token with its expiration.
+     *
+     * @param token resolved parts of authentication
+     * @param expiresAt expiration of the token, or null.
+     */
+    private record CachedToken(AtpJwtAuthenticationConverter.ResolvedToken token, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.security.permissions;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.atp.auth.springbootstarter.entities.Operation;
+import org.qubership.atp.auth.springbootstarter.utils.UuidUtils;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * AuthorizationManager of methods annotated with {@link AtpAuthorize}.
+ * Annotation of a method is resolved into a binding once: index and kind of the project
+ * parameter, operation and entity name. Each call then reads the project argument by index and calls
+ * {@link PolicyEnforcement} directly.
+ * As BeanPostProcessor, it resolves annotated methods of beans at startup, so wrong annotations fail the startup
+ * instead of the first call; methods which aren't resolved at startup are resolved on the first call.
+ */
+public class AtpAuthorizeAuthorizationManager implements AuthorizationManager<MethodInvocation>, BeanPostProcessor {
+
+    /**
+     * Source of PolicyEnforcement bean.
+     */
+    private final Supplier<PolicyEnforcement> policyEnforcement;
+
+    /**
+     * Resolved bindings by invoked method.
+     */
+    private final Map<Method, Binding> bindings = new ConcurrentHashMap<>();
+
+    /**
+     * Discoverer of method parameter names.
+     */
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    /**
+     * Constructor.
+     *
+     * @param policyEnforcement source of PolicyEnforcement bean.
+     */
+    public AtpAuthorizeAuthorizationManager(final Supplier<PolicyEnforcement> policyEnforcement) {
+        this.policyEnforcement = policyEnforcement;
+    }
+
+    @Override
+    public AuthorizationDecision check(final Supplier<Authentication> authentication,
+                                       final MethodInvocation invocation) {
+        Binding binding = bindings.get(invocation.getMethod());
+        if (binding == null) {
+            binding = bindings.computeIfAbsent(invocation.getMethod(), method -> bind(method, invocation));
+        }
+        return new AuthorizationDecision(binding.check(policyEnforcement.get(), invocation.getArguments()));
+    }
+
+    /**
+     * Resolve methods of the bean annotated with {@link AtpAuthorize}, both by class and interface methods.
+     *
+     * @param bean bean instance, possibly proxied
+     * @param beanName name of the bean
+     * @return the bean as is.
+     * @throws IllegalStateException if an annotation can't be resolved.
+     */
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        Class<?> type = ClassUtils.getUserClass(AopProxyUtils.ultimateTargetClass(bean));
+        if (!AnnotationUtils.isCandidateClass(type, AtpAuthorize.class)) {
+            return bean;
+        }
+        Set<Class<?>> interfaces = ClassUtils.getAllInterfacesForClassAsSet(type);
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(type, ReflectionUtils.USER_DECLARED_METHODS)) {
+            AtpAuthorize annotation = AnnotationUtils.findAnnotation(method, AtpAuthorize.class);
+            if (annotation == null) {
+                continue;
+            }
+            Binding binding = bindings.computeIfAbsent(method, key -> bind(method, annotation));
+            for (Class<?> interfaceType : interfaces) {
+                Method interfaceMethod = ClassUtils.getMethodIfAvailable(interfaceType, method.getName(),
+                        method.getParameterTypes());
+                if (interfaceMethod != null) {
+                    bindings.putIfAbsent(interfaceMethod, binding);
+                }
+            }
+        }
+        return bean;
+    }
+
+    private Binding bind(final Method method, final MethodInvocation invocation) {
+        Method annotated = method;
+        AtpAuthorize annotation = AnnotationUtils.findAnnotation(method, AtpAuthorize.class);
+        if (annotation == null && invocation.getThis() != null) {
+            annotated = AopUtils.getMostSpecificMethod(method, AopProxyUtils.ultimateTargetClass(invocation.getThis()));
+            annotation = AnnotationUtils.findAnnotation(annotated, AtpAuthorize.class);
+        }
+        if (annotation == null) {
+            throw new IllegalStateException("Method %s isn't annotated with @AtpAuthorize".formatted(method));
+        }
+        return bind(annotated, annotation);
+    }
+
+    private Binding bind(final Method annotated, final AtpAuthorize annotation) {
+        String[] names = parameterNameDiscoverer.getParameterNames(annotated);
+        for (int i = 0; names != null && i < names.length; i++) {
+            if (names[i].equals(annotation.project())) {
+                return new Binding(i, ProjectKind.of(annotated.getParameterTypes()[i], annotated),
+                        annotation.operation(), annotation.entity());
+            }
+        }
+        throw new IllegalStateException("Parameter '%s' of @AtpAuthorize isn't found in method %s"
+                .formatted(annotation.project(), annotated));
+    }
+
+    /**
+     * Kind of the project parameter.
+     */
+    private enum ProjectKind {
+
+        /**
+         * Project UUID.
+         */
+        UUID_ID,
+
+        /**
+         * Project UUID as String.
+         */
+        STRING_ID,
+
+        /**
+         * Set of project UUIDs.
+         */
+        ID_SET;
+
+        private static ProjectKind of(final Class<?> type, final Method method) {
+            if (UUID.class.equals(type)) {
+                return UUID_ID;
+            }
+            if (CharSequence.class.isAssignableFrom(type)) {
+                return STRING_ID;
+            }
+            if (Collection.class.isAssignableFrom(type)) {
+                return ID_SET;
+            }
+            throw new IllegalStateException("Project parameter of @AtpAuthorize must be UUID, String "
+                    + "or Set of UUIDs, but it's %s in method %s".formatted(type.getName(), method));
+        }
+    }
+
+    /**
+     * Resolved annotation of a method.
+     *
+     * @param projectIndex index of the project parameter
+     * @param projectKind kind of the project parameter
+     * @param operation operation to check
+     * @param entity entity name, or empty string to check access to the project.
+     */
+    private record Binding(int projectIndex, ProjectKind projectKind, Operation operation, String entity) {
+
+        private boolean check(final PolicyEnforcement enforcement, final Object[] arguments) {
+            Object project = arguments[projectIndex];
+            return switch (projectKind) {
+                case UUID_ID -> check(enforcement, (UUID) project);
+                case STRING_ID -> check(enforcement, StringUtils.isBlank((CharSequence) project)
+                        ? null
+                        : UuidUtils.parse(project.toString()));
+                case ID_SET -> check(enforcement, toSet((Collection<?>) project));
+            };
+        }
+
+        private boolean check(final PolicyEnforcement enforcement, final UUID projectId) {
+            return entity.isEmpty()
+                    ? enforcement.checkAccess(projectId, operation)
+                    : enforcement.checkAccess(entity, projectId, operation);
+        }
+
+        private boolean check(final PolicyEnforcement enforcement, final Set<UUID> projectIds) {
+            return entity.isEmpty()
+                    ? enforcement.checkAccess(projectIds, operation.name())
+                    : enforcement.checkAccess(entity, projectIds, operation);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Set<UUID> toSet(final Collection<?> projectIds) {
+            if (projectIds == null) {
+                return null;
+            }
+            return projectIds instanceof Set<?> set ? (Set<UUID>) set : new HashSet<>((Collection<UUID>) projectIds);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Key of object permissions in the auth_objects cache.
+ * Explicit key (instead of SimpleKey) lets cached entries be written to a snapshot and revalidated.
+ *
+ * @param entityName name of an entity
+ * @param projectId UUID of a project
+ * @param objectId UUID of an object.
+ */
+public record ObjectPermissionsCacheKey(String entityName, UUID projectId, UUID objectId) implements Serializable {
+}
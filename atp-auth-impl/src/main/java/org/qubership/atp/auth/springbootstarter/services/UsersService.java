@@ -17,35 +17,61 @@
 package org.qubership.atp.auth.springbootstarter.services;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
-import java.util.stream.Collectors;
 
 import org.qubership.atp.auth.springbootstarter.Constants;
+import org.qubership.atp.auth.springbootstarter.entities.Group;
+import org.qubership.atp.auth.springbootstarter.entities.ObjectPermissionIndex;
 import org.qubership.atp.auth.springbootstarter.entities.ObjectPermissions;
+import org.qubership.atp.auth.springbootstarter.entities.Operation;
 import org.qubership.atp.auth.springbootstarter.entities.Operations;
 import org.qubership.atp.auth.springbootstarter.entities.Permissions;
 import org.qubership.atp.auth.springbootstarter.entities.Project;
 import org.qubership.atp.auth.springbootstarter.entities.ServiceEntities;
 import org.qubership.atp.auth.springbootstarter.entities.UserInfo;
+import org.qubership.atp.auth.springbootstarter.services.access.UserProjectAccessIndex;
+import org.qubership.atp.auth.springbootstarter.services.batch.ProjectBatchLoader;
+import org.qubership.atp.auth.springbootstarter.services.bulk.BulkOperationListener;
+import org.qubership.atp.auth.springbootstarter.services.bulk.BulkOperationResult;
+import org.qubership.atp.auth.springbootstarter.services.bulk.ChunkedBulkExecutor;
 import org.qubership.atp.auth.springbootstarter.services.client.UsersFeignClient;
+import org.qubership.atp.auth.springbootstarter.services.offheap.OffHeapPermissionStore;
+import org.qubership.atp.auth.springbootstarter.services.view.ProjectPermissionView;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @CacheConfig(cacheNames = {Constants.AUTH_PROJECTS_CACHE_NAME, Constants.AUTH_OBJECTS_CACHE_NAME})
 public class UsersService {
 
+    /**
+     * Key of object permissions in the auth_objects cache: explicit ObjectPermissionsCacheKey
+     * when the cache snapshot is enabled (to enumerate entries), otherwise the default SimpleKey.
+     */
+    private static final String OBJECT_PERMISSIONS_CACHE_KEY = "#root.target.cacheSnapshotEnabled"
+            + " ? new org.qubership.atp.auth.springbootstarter.services.ObjectPermissionsCacheKey(#a0, #a1, #a2)"
+            + " : new org.springframework.cache.interceptor.SimpleKey(#a0, #a1, #a2)";
+
     /**
      * Feign client to Users Service.
      */
@@ -68,17 +94,159 @@ public class UsersService {
     @Value("${spring.application.name}")
     private String serviceName;
 
+    /**
+     * Maximum number of object names sent in a single bulk request.
+     */
+    @Value("${atp-auth.users.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
+
+    /**
+     * Maximum number of bulk requests executed concurrently.
+     */
+    @Value("${atp-auth.users.bulk.parallelism:4}")
+    private int bulkParallelism;
+
+    /**
+     * Executor of bulk requests, created once the properties are injected.
+     */
+    private ChunkedBulkExecutor bulkExecutor;
+
+    /**
+     * Maximum number of projects requested in a single batch request.
+     */
+    @Value("${atp-auth.users.batch.size:100}")
+    private int projectBatchSize;
+
+    /**
+     * Maximum number of project requests executed concurrently.
+     */
+    @Value("${atp-auth.users.batch.parallelism:8}")
+    private int projectBatchParallelism;
+
+    /**
+     * Turn on warm start of permission caches from a snapshot.
+     */
+    @Value("${atp-auth.cache.snapshot.enabled:false}")
+    private boolean cacheSnapshotEnabled;
+
+    /**
+     * Cache manager holding the auth_projects cache; null if caching isn't enabled.
+     */
+    @Autowired(required = false)
+    private CacheManager cacheManager;
+
+    /**
+     * Local view of project permissions consumed from Kafka; null if the view isn't enabled.
+     */
+    @Autowired(required = false)
+    private ProjectPermissionView projectPermissionView;
+
+    /**
+     * Off-heap store of project members and object permissions; null if the store isn't enabled.
+     */
+    @Autowired(required = false)
+    private OffHeapPermissionStore offHeapPermissionStore;
+
+    /**
+     * Per-user index of project access; null if the index isn't enabled.
+     */
+    @Autowired(required = false)
+    private UserProjectAccessIndex userProjectAccessIndex;
+
+    /**
+     * Create executor of bulk requests with the configured chunk size and parallelism.
+     */
+    @PostConstruct
+    public void initBulkExecutor() {
+        bulkExecutor = new ChunkedBulkExecutor(bulkChunkSize, bulkParallelism);
+    }
+
     /**
      * Return {@link Project} with user lists.
      * Stubbed implementation,
      *  so, instead of usersFeignClient.getUsersByProject(projectId),
      *  empty Project is returned.
      *
+     * When the local permission view is enabled, projects of the view are taken from it bypassing the cache,
+     *  and projects missing in the view are requested and cached as usual.
+     *
      * @param projectId UUID of a project
      * @return {@link Project}
      */
-    @Cacheable(Constants.AUTH_PROJECTS_CACHE_NAME)
+    @Cacheable(cacheNames = Constants.AUTH_PROJECTS_CACHE_NAME, condition = "!#root.target.isInPermissionView(#a0)")
     public Project getUsersByProject(final UUID projectId) {
+        return findUsersByProject(projectId);
+    }
+
+    /**
+     * Check if the project is served from the local permission view.
+     *
+     * @param projectId UUID of a project
+     * @return true if the view is enabled and contains the project.
+     */
+    public boolean isInPermissionView(final UUID projectId) {
+        return projectPermissionView != null && projectPermissionView.get(projectId) != null;
+    }
+
+    /**
+     * Check if permission caches are written to a snapshot.
+     *
+     * @return true if the cache snapshot is enabled.
+     */
+    public boolean isCacheSnapshotEnabled() {
+        return cacheSnapshotEnabled;
+    }
+
+    /**
+     * Reload {@link Project} with user lists and replace it in the cache.
+     * Used to revalidate entries loaded from the cache snapshot.
+     *
+     * @param projectId UUID of a project
+     * @return {@link Project}
+     */
+    @CachePut(Constants.AUTH_PROJECTS_CACHE_NAME)
+    public Project refreshUsersByProject(final UUID projectId) {
+        Project project = loadUsersByProject(projectId);
+        if (offHeapPermissionStore != null) {
+            offHeapPermissionStore.putProject(project);
+        }
+        return project;
+    }
+
+    /**
+     * Get the most privileged group of the user in the project.
+     * When the off-heap store is enabled, members of the project are taken from the store,
+     *  and the project is loaded into the store if it's missing or expired there.
+     *
+     * @param projectId UUID of a project
+     * @param userId UUID of a user
+     * @param userRoles Set of user role names
+     * @return {@link Group} the most privileged Group the User belongs to.
+     */
+    public Group getUserGroup(final UUID projectId, final UUID userId, final Set<String> userRoles) {
+        if (offHeapPermissionStore == null) {
+            return getLocalProject(projectId).getUserGroup(userId, userRoles);
+        }
+        Group group = offHeapPermissionStore.getUserGroup(projectId, userId, userRoles);
+        if (group != null) {
+            return group;
+        }
+        Project project = findUsersByProject(projectId);
+        offHeapPermissionStore.putProject(project);
+        return project.getUserGroup(userId, userRoles);
+    }
+
+    private Project findUsersByProject(final UUID projectId) {
+        if (projectPermissionView != null) {
+            Project project = projectPermissionView.get(projectId);
+            if (project != null) {
+                return project;
+            }
+        }
+        return loadUsersByProject(projectId);
+    }
+
+    private Project loadUsersByProject(final UUID projectId) {
         Project project = new Project();
         project.setUuid(projectId);
         project.setLeads(new HashSet<>());
@@ -87,9 +255,225 @@ public class UsersService {
         project.setAtpRunners(new HashSet<>());
         project.setAtpSupports(new HashSet<>());
         project.setPermissions(new Permissions());
+        if (userProjectAccessIndex != null) {
+            userProjectAccessIndex.putProject(project);
+        }
         return project;
     }
 
+    /**
+     * Return Projects the user is a member of, with user lists.
+     * Stubbed implementation,
+     *  so, instead of usersFeignClient.getProjectsByUserId(userId),
+     *  empty List is returned.
+     *
+     * @param userId UUID of a user
+     * @return List of {@link Project}.
+     */
+    public List<Project> getProjectsByUserId(final UUID userId) {
+        List<Project> projects = new ArrayList<>();
+        if (userProjectAccessIndex != null) {
+            userProjectAccessIndex.putUserProjects(userId, projects);
+        }
+        return projects;
+    }
+
+    /**
+     * Return {@link Project}s with user lists; loaded projects are put into the auth_projects cache.
+     * Stubbed implementation,
+     *  so, instead of usersFeignClient.getUsersByProjects(projectIds),
+     *  empty Projects are returned.
+     *
+     * @param projectIds List of project UUIDs
+     * @return List of {@link Project}.
+     */
+    public List<Project> getUsersByProjects(final List<UUID> projectIds) {
+        List<Project> projects = projectIds.stream()
+                .map(this::loadUsersByProject)
+                .toList();
+        projects.forEach(this::putCachedProject);
+        return projects;
+    }
+
+    /**
+     * Get the most privileged groups of the user in the projects.
+     * Groups are taken from the per-user access index, the off-heap store, the local permission view
+     *  (those of them which are enabled) or the auth_projects cache; projects missing there are requested
+     *  in batches, see {@link ProjectBatchLoader}, and put into the cache.
+     *
+     * @param userId UUID of a user
+     * @param userRoles Set of user role names
+     * @param projectIds Set of project UUIDs
+     * @return Map of groups by project UUID, in the order of the project UUIDs.
+     */
+    public Map<UUID, Group> getUserGroups(final UUID userId,
+                                          final Set<String> userRoles,
+                                          final Set<UUID> projectIds) {
+        Map<UUID, Group> found = HashMap.newHashMap(projectIds.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID projectId : projectIds) {
+            Group group = findUserGroup(projectId, userId, userRoles);
+            if (group == null) {
+                missing.add(projectId);
+            } else {
+                found.put(projectId, group);
+            }
+        }
+        newProjectBatchLoader().allMatch(missing, this::getUsersByProjects, this::loadCachedProject, project -> {
+            found.put(project.getUuid(), project.getUserGroup(userId, userRoles));
+            return true;
+        });
+        Map<UUID, Group> groups = LinkedHashMap.newLinkedHashMap(projectIds.size());
+        for (UUID projectId : projectIds) {
+            Group group = found.get(projectId);
+            if (group != null) {
+                groups.put(projectId, group);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Check if the operation against the entity is permitted to the user in each of the projects.
+     * Projects known locally (see {@link #getUserGroups(UUID, Set, Set)}) are checked first;
+     *  missing projects are requested in batches, put into the auth_projects cache,
+     *  and checked as soon as they are loaded.
+     * The check stops at the first project where the operation isn't permitted,
+     *  and outstanding requests are cancelled.
+     *
+     * @param userId UUID of a user
+     * @param userRoles Set of user role names
+     * @param projectIds Set of project UUIDs
+     * @param entityName String name of an entity
+     * @param operation Operation to check
+     * @return true if the operation is permitted in all the projects.
+     */
+    public boolean checkAccess(final UUID userId,
+                               final Set<String> userRoles,
+                               final Set<UUID> projectIds,
+                               final String entityName,
+                               final Operation operation) {
+        List<UUID> missing = new ArrayList<>();
+        for (UUID projectId : projectIds) {
+            Group group = findUserGroup(projectId, userId, userRoles);
+            if (group == null) {
+                missing.add(projectId);
+            } else if (!isOperationAvailable(getProjectPermissions(projectId), group, entityName, operation)) {
+                return false;
+            }
+        }
+        return newProjectBatchLoader().allMatch(missing, this::getUsersByProjects, this::loadCachedProject,
+                project -> isOperationAvailable(project.getPermissions(), project.getUserGroup(userId, userRoles),
+                        entityName, operation));
+    }
+
+    /**
+     * Get projects where the operation against the entity is permitted to the user, e.g. projects the user can read.
+     * Only projects the user is a member of (including the support group of a project) are returned;
+     *  projects available via ATP_SUPPORT role only aren't enumerated.
+     * When the per-user access index is enabled, projects of the user are requested once per 'ttl'.
+     *
+     * @param userId UUID of a user
+     * @param entityName String name of an entity
+     * @param operation Operation to check
+     * @return Set of project UUIDs.
+     */
+    public Set<UUID> getProjectsWithAccess(final UUID userId,
+                                           final String entityName,
+                                           final Operation operation) {
+        Set<UUID> projectIds = new HashSet<>();
+        Map<UUID, Group> groups = userProjectAccessIndex == null
+                ? null
+                : userProjectAccessIndex.getUserProjects(userId);
+        if (groups == null) {
+            for (Project project : getProjectsByUserId(userId)) {
+                if (isOperationAvailable(project.getPermissions(),
+                        project.getUserGroup(userId, Collections.emptySet()), entityName, operation)) {
+                    projectIds.add(project.getUuid());
+                }
+            }
+            return projectIds;
+        }
+        groups.forEach((projectId, group) -> {
+            if (isOperationAvailable(getProjectPermissions(projectId), group, entityName, operation)) {
+                projectIds.add(projectId);
+            }
+        });
+        return projectIds;
+    }
+
+    private Group findUserGroup(final UUID projectId, final UUID userId, final Set<String> userRoles) {
+        Group group = userProjectAccessIndex == null
+                ? null
+                : userProjectAccessIndex.getUserGroup(userId, projectId, userRoles);
+        if (group == null && offHeapPermissionStore != null) {
+            group = offHeapPermissionStore.getUserGroup(projectId, userId, userRoles);
+        }
+        if (group == null) {
+            Project project = findLocalProject(projectId);
+            group = project == null ? null : project.getUserGroup(userId, userRoles);
+        }
+        return group;
+    }
+
+    private Project findLocalProject(final UUID projectId) {
+        Project project = projectPermissionView == null ? null : projectPermissionView.get(projectId);
+        return project == null ? getCachedProject(projectId) : project;
+    }
+
+    private Project getLocalProject(final UUID projectId) {
+        Project project = findLocalProject(projectId);
+        return project == null ? loadCachedProject(projectId) : project;
+    }
+
+    private Project loadCachedProject(final UUID projectId) {
+        Project project = loadUsersByProject(projectId);
+        putCachedProject(project);
+        return project;
+    }
+
+    private Project getCachedProject(final UUID projectId) {
+        Cache cache = getProjectsCache();
+        return cache == null ? null : cache.get(projectId, Project.class);
+    }
+
+    private void putCachedProject(final Project project) {
+        Cache cache = getProjectsCache();
+        if (cache != null) {
+            cache.put(project.getUuid(), project);
+        }
+    }
+
+    private Cache getProjectsCache() {
+        return cacheManager == null ? null : cacheManager.getCache(Constants.AUTH_PROJECTS_CACHE_NAME);
+    }
+
+    private ProjectBatchLoader newProjectBatchLoader() {
+        return new ProjectBatchLoader(projectBatchSize, projectBatchParallelism);
+    }
+
+    private Permissions getProjectPermissions(final UUID projectId) {
+        Permissions permissions = userProjectAccessIndex == null
+                ? null
+                : userProjectAccessIndex.getPermissions(projectId);
+        if (permissions == null && offHeapPermissionStore != null) {
+            permissions = offHeapPermissionStore.getPermissions(projectId);
+        }
+        if (permissions != null) {
+            return permissions;
+        }
+        return getLocalProject(projectId).getPermissions();
+    }
+
+    private static boolean isOperationAvailable(final Permissions permissions,
+                                                final Group group,
+                                                final String entityName,
+                                                final Operation operation) {
+        Map<String, Operations> entities = permissions == null ? null : permissions.getPermissionsByGroup(group);
+        Operations operations = entities == null ? null : entities.get(entityName);
+        return operations != null && operations.isOperationAvailable(operation);
+    }
+
     /**
      * Get User Permissions for project identified by id.
      *
@@ -97,8 +481,13 @@ public class UsersService {
      * @return User Permissions for the project.
      */
     public Permissions getPermissionsByProjectId(final UUID projectId) {
-        Project project = getUsersByProject(projectId);
-        return project.getPermissions();
+        if (offHeapPermissionStore != null) {
+            Permissions permissions = offHeapPermissionStore.getPermissions(projectId);
+            if (permissions != null) {
+                return permissions;
+            }
+        }
+        return getLocalProject(projectId).getPermissions();
     }
 
     /**
@@ -124,13 +513,81 @@ public class UsersService {
      * @param objectId UUID of an object
      * @return Map of permissions.
      */
-    @Cacheable(Constants.AUTH_OBJECTS_CACHE_NAME)
+    @Cacheable(cacheNames = Constants.AUTH_OBJECTS_CACHE_NAME, key = OBJECT_PERMISSIONS_CACHE_KEY)
     public Map<String, Map<UUID, Operations>> getPermissionsByObjectId(final String entityName,
                                                                        final UUID projectId,
                                                                        final UUID objectId) {
         return new HashMap<>();
     }
 
+    /**
+     * Get operations explicitly permitted to the user against the object.
+     * When the off-heap store is enabled, object permissions are taken from the store,
+     *  and loaded into the store if they are missing or expired there.
+     * Stubbed implementation, see {@link #getPermissionsByObjectId(String, UUID, UUID)}.
+     *
+     * @param entityName String name of an entity
+     * @param projectId UUID of a project
+     * @param objectId UUID of an object
+     * @param userId UUID of a user
+     * @return Operations object, or null if there are no explicit permissions of the user.
+     */
+    public Operations getObjectOperations(final String entityName,
+                                          final UUID projectId,
+                                          final UUID objectId,
+                                          final UUID userId) {
+        String objectName = getObjectName(entityName, objectId);
+        Map<String, Map<UUID, Operations>> permissions;
+        if (offHeapPermissionStore == null) {
+            permissions = getCachedObjectPermissions(entityName, projectId, objectId);
+        } else {
+            ObjectPermissionsCacheKey key = new ObjectPermissionsCacheKey(entityName, projectId, objectId);
+            if (offHeapPermissionStore.containsObjectPermissions(key)) {
+                int mask = offHeapPermissionStore.getOperationsMask(key, objectName, userId);
+                return mask < 0 ? null : Operations.fromMask(mask);
+            }
+            permissions = new HashMap<>();
+            offHeapPermissionStore.putObjectPermissions(key, permissions);
+        }
+        Map<UUID, Operations> users = permissions.get(objectName);
+        return users == null ? null : users.get(userId);
+    }
+
+    private Map<String, Map<UUID, Operations>> getCachedObjectPermissions(final String entityName,
+                                                                          final UUID projectId,
+                                                                          final UUID objectId) {
+        Cache cache = cacheManager == null ? null : cacheManager.getCache(Constants.AUTH_OBJECTS_CACHE_NAME);
+        if (cache == null) {
+            return getPermissionsByObjectId(entityName, projectId, objectId);
+        }
+        Object key = cacheSnapshotEnabled
+                ? new ObjectPermissionsCacheKey(entityName, projectId, objectId)
+                : new SimpleKey(entityName, projectId, objectId);
+        return cache.get(key, () -> getPermissionsByObjectId(entityName, projectId, objectId));
+    }
+
+    /**
+     * Reload object permissions for the entity inside the project and replace them in the cache.
+     * Used to revalidate entries loaded from the cache snapshot.
+     * Stubbed implementation, see {@link #getPermissionsByObjectId(String, UUID, UUID)}.
+     *
+     * @param entityName String name of an entity
+     * @param projectId UUID of a project
+     * @param objectId UUID of an object
+     * @return Map of permissions.
+     */
+    @CachePut(cacheNames = Constants.AUTH_OBJECTS_CACHE_NAME, key = OBJECT_PERMISSIONS_CACHE_KEY)
+    public Map<String, Map<UUID, Operations>> refreshPermissionsByObjectId(final String entityName,
+                                                                           final UUID projectId,
+                                                                           final UUID objectId) {
+        Map<String, Map<UUID, Operations>> permissions = new HashMap<>();
+        if (offHeapPermissionStore != null) {
+            offHeapPermissionStore.putObjectPermissions(
+                    new ObjectPermissionsCacheKey(entityName, projectId, objectId), permissions);
+        }
+        return permissions;
+    }
+
     /**
      * Get object permissions for the service inside the project.
      * Stubbed implementation, so, instead of
@@ -144,6 +601,19 @@ public class UsersService {
         return new HashMap<>();
     }
 
+    /**
+     * Get object permissions for the service inside the project as compact index.
+     * Stubbed implementation, so, instead of
+     *  usersFeignClient.getObjectPermissionIndexByServiceName(projectId, serviceName),
+     *  empty index is returned.
+     *
+     * @param projectId UUID of a project
+     * @return ObjectPermissionIndex object.
+     */
+    public ObjectPermissionIndex getObjectPermissionIndexForService(final UUID projectId) {
+        return new ObjectPermissionIndex();
+    }
+
     /**
      * Get UserInfo by Project ID and list of User IDs.
      * Stubbed implementation, so, instead of
@@ -224,11 +694,9 @@ public class UsersService {
 
     /**
      * Delete all objects by object IDs.
-     * Stubbed implementation, so, in fact, deleting via usersFeignClient isn't performed.
-     * This call isn't made:
-     *   runWithoutUserToken(() -> usersFeignClient
-     *          .deleteObjectPermissionsBulk(projectId, serviceName, getObjectNames(entityName, objectIds))).
-     * Instead, method does nothing.
+     * Object IDs are split into chunks of 'atp-auth.users.bulk.chunk-size' items,
+     * and up to 'atp-auth.users.bulk.parallelism' chunks are deleted concurrently.
+     * Stubbed implementation, see {@link #deleteObjectPermissionsBulkWithResult(String, UUID, List)}.
      *
      * @param entityName String entity name
      * @param projectId UUID of a project
@@ -237,6 +705,62 @@ public class UsersService {
     public void deleteObjectPermissionsBulk(final String entityName,
                                             final UUID projectId,
                                             final List<UUID> objectIds) {
+        deleteObjectPermissionsBulkWithResult(entityName, projectId, objectIds);
+    }
+
+    /**
+     * Delete all objects by object IDs, reporting progress to the listener.
+     * Stubbed implementation, see {@link #deleteObjectPermissionsBulkWithResult(String, UUID, List)}.
+     *
+     * @param entityName String entity name
+     * @param projectId UUID of a project
+     * @param objectIds List of object UUIDs
+     * @param listener progress/metrics listener.
+     */
+    public void deleteObjectPermissionsBulk(final String entityName,
+                                            final UUID projectId,
+                                            final List<UUID> objectIds,
+                                            final BulkOperationListener<UUID> listener) {
+        deleteObjectPermissionsBulkWithResult(entityName, projectId, objectIds, listener);
+    }
+
+    /**
+     * Delete all objects by object IDs and return the result.
+     * Object IDs are split into chunks of 'atp-auth.users.bulk.chunk-size' items,
+     * and up to 'atp-auth.users.bulk.parallelism' chunks are deleted concurrently.
+     * Stubbed implementation, so, in fact, deleting via usersFeignClient isn't performed.
+     * This call isn't made for each chunk, with object names built from the chunk only:
+     *   runWithoutUserToken(() -> usersFeignClient.deleteObjectPermissionsBulk(projectId, serviceName,
+     *          chunk.stream().map(id -> getObjectName(entityName, id)).toList())).
+     * Instead, chunks are simply reported as processed.
+     *
+     * @param entityName String entity name
+     * @param projectId UUID of a project
+     * @param objectIds List of object UUIDs
+     * @return result of the bulk deletion.
+     */
+    public BulkOperationResult<UUID> deleteObjectPermissionsBulkWithResult(final String entityName,
+                                                                           final UUID projectId,
+                                                                           final List<UUID> objectIds) {
+        return deleteObjectPermissionsBulkWithResult(entityName, projectId, objectIds, BulkOperationListener.noop());
+    }
+
+    /**
+     * Delete all objects by object IDs, reporting progress to the listener, and return the result.
+     * Stubbed implementation, see {@link #deleteObjectPermissionsBulkWithResult(String, UUID, List)}.
+     *
+     * @param entityName String entity name
+     * @param projectId UUID of a project
+     * @param objectIds List of object UUIDs
+     * @param listener progress/metrics listener
+     * @return result of the bulk deletion.
+     */
+    public BulkOperationResult<UUID> deleteObjectPermissionsBulkWithResult(final String entityName,
+                                                                           final UUID projectId,
+                                                                           final List<UUID> objectIds,
+                                                                           final BulkOperationListener<UUID> listener) {
+        return bulkExecutor.execute(objectIds, chunk -> {
+        }, listener);
     }
 
     /**
@@ -283,11 +807,4 @@ public class UsersService {
         return "%s-%s-%s".formatted(serviceName, entityName, objectId);
     }
 
-    private List<String> getObjectNames(final String entityName,
-                                        final List<UUID> objectId) {
-        return objectId.stream()
-                .map(id -> "%s-%s-%s".formatted(serviceName, entityName, id))
-                .collect(Collectors.toList());
-    }
-
 }
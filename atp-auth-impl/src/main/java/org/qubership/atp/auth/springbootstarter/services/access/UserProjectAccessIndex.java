@@ -0,0 +1,277 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.services.access;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.qubership.atp.auth.springbootstarter.entities.Group;
+import org.qubership.atp.auth.springbootstarter.entities.Permissions;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.entities.Role;
+
+/**
+ * Per-user index of project access: user UUID to project UUID to the most privileged group of the user.
+ * The index is filled from loaded projects (all members of a project at once) and from the list of projects
+ * of a user (all projects of the user at once), so checks against a set of projects and the list of projects
+ * available to a user are answered without a request per project.
+ * The index knows the group of the user in the project while the project or the user is loaded
+ * not earlier than 'ttl' ago; otherwise the caller loads the project or the user again.
+ * Updates are serialized, lookups are lock-free.
+ */
+public class UserProjectAccessIndex {
+
+    /**
+     * Groups of users by project, by user.
+     */
+    private final Map<UUID, Map<UUID, Group>> groupsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * Indexed users by project; used to drop users who aren't members of the reloaded project anymore.
+     */
+    private final Map<UUID, Set<UUID>> usersByProject = new ConcurrentHashMap<>();
+
+    /**
+     * Role permissions by project.
+     */
+    private final Map<UUID, ProjectPermissions> permissionsByProject = new ConcurrentHashMap<>();
+
+    /**
+     * Load time of projects loaded with all members, in nanoseconds.
+     */
+    private final Map<UUID, Long> projectsLoadedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Load time of users loaded with all projects, in nanoseconds.
+     */
+    private final Map<UUID, Long> usersLoadedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Time to keep entries, in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * Source of current time, in nanoseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Time of the last eviction of expired entries, in nanoseconds.
+     */
+    private long evictedAt;
+
+    /**
+     * Constructor.
+     *
+     * @param ttl time to keep entries
+     * @param clock source of current time, in nanoseconds.
+     */
+    public UserProjectAccessIndex(final Duration ttl, final LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.evictedAt = clock.getAsLong();
+    }
+
+    /**
+     * Put all members of the project into the index.
+     * Users indexed for the project before, but not members of it anymore, are removed from the project.
+     *
+     * @param project Project object.
+     */
+    public synchronized void putProject(final Project project) {
+        long now = clock.getAsLong();
+        evictExpired(now);
+        UUID projectId = project.getUuid();
+        Map<UUID, Group> members = new HashMap<>();
+        addMembers(members, project.getAtpSupports(), Group.SUPPORT);
+        addMembers(members, project.getAtpRunners(), Group.EXECUTOR);
+        addMembers(members, project.getDevOpsEngineers(), Group.DEVOPS);
+        addMembers(members, project.getQaTaEngineers(), Group.ENGINEER);
+        addMembers(members, project.getLeads(), Group.LEAD);
+        Set<UUID> indexed = usersByProject.computeIfAbsent(projectId, id -> ConcurrentHashMap.newKeySet());
+        indexed.removeIf(userId -> {
+            if (members.containsKey(userId)) {
+                return false;
+            }
+            removeGroup(userId, projectId);
+            return true;
+        });
+        members.forEach((userId, group) -> {
+            groupsByUser.computeIfAbsent(userId, id -> new ConcurrentHashMap<>()).put(projectId, group);
+            indexed.add(userId);
+        });
+        permissionsByProject.put(projectId, new ProjectPermissions(project.getPermissions(), now));
+        projectsLoadedAt.put(projectId, now);
+    }
+
+    /**
+     * Put all projects of the user into the index.
+     * Projects indexed for the user before, but not present in the list, are removed from the user.
+     *
+     * @param userId UUID of a user
+     * @param projects projects the user is a member of; members of other users are ignored.
+     */
+    public synchronized void putUserProjects(final UUID userId, final Collection<Project> projects) {
+        long now = clock.getAsLong();
+        evictExpired(now);
+        Map<UUID, Group> groups = new ConcurrentHashMap<>();
+        for (Project project : projects) {
+            Group group = project.getUserGroup(userId, Collections.emptySet());
+            if (group != Group.DEFAULT) {
+                groups.put(project.getUuid(), group);
+                usersByProject.computeIfAbsent(project.getUuid(), id -> ConcurrentHashMap.newKeySet()).add(userId);
+                permissionsByProject.put(project.getUuid(), new ProjectPermissions(project.getPermissions(), now));
+            }
+        }
+        Map<UUID, Group> previous = groups.isEmpty() ? groupsByUser.remove(userId) : groupsByUser.put(userId, groups);
+        if (previous != null) {
+            previous.keySet().stream()
+                    .filter(projectId -> !groups.containsKey(projectId))
+                    .forEach(projectId -> {
+                        Set<UUID> indexed = usersByProject.get(projectId);
+                        if (indexed != null) {
+                            indexed.remove(userId);
+                        }
+                    });
+        }
+        usersLoadedAt.put(userId, now);
+    }
+
+    /**
+     * Get the most privileged group of the user in the project, the same way as
+     * {@link Project#getUserGroup(UUID, Set)} does.
+     *
+     * @param userId UUID of a user
+     * @param projectId UUID of a project
+     * @param userRoles Set of user role names
+     * @return Group of the user, or null if neither the project nor the user is actual in the index.
+     */
+    public Group getUserGroup(final UUID userId, final UUID projectId, final Set<String> userRoles) {
+        long now = clock.getAsLong();
+        if (!isActual(projectsLoadedAt.get(projectId), now) && !isActual(usersLoadedAt.get(userId), now)) {
+            return null;
+        }
+        Map<UUID, Group> groups = groupsByUser.get(userId);
+        Group group = groups == null ? null : groups.get(projectId);
+        if (group != null && group.ordinal() < Group.SUPPORT.ordinal()) {
+            return group;
+        }
+        return group == Group.SUPPORT || isSupportRole(userRoles) ? Group.SUPPORT : Group.DEFAULT;
+    }
+
+    /**
+     * Get groups of the user in all projects the user is a member of.
+     *
+     * @param userId UUID of a user
+     * @return Map of groups by project UUID, or null if the user isn't actual in the index.
+     */
+    public Map<UUID, Group> getUserProjects(final UUID userId) {
+        if (!isActual(usersLoadedAt.get(userId), clock.getAsLong())) {
+            return null;
+        }
+        Map<UUID, Group> groups = groupsByUser.get(userId);
+        return groups == null ? Collections.emptyMap() : Collections.unmodifiableMap(groups);
+    }
+
+    /**
+     * Get role permissions of the project.
+     *
+     * @param projectId UUID of a project
+     * @return Permissions object, or null if the project isn't actual in the index.
+     */
+    public Permissions getPermissions(final UUID projectId) {
+        ProjectPermissions entry = permissionsByProject.get(projectId);
+        return entry == null || !isActual(entry.loadedAt(), clock.getAsLong()) ? null : entry.permissions();
+    }
+
+    /**
+     * Remove the project from the index.
+     *
+     * @param projectId UUID of a project.
+     */
+    public synchronized void removeProject(final UUID projectId) {
+        Set<UUID> indexed = usersByProject.remove(projectId);
+        if (indexed != null) {
+            indexed.forEach(userId -> removeGroup(userId, projectId));
+        }
+        permissionsByProject.remove(projectId);
+        projectsLoadedAt.remove(projectId);
+    }
+
+    /**
+     * Get number of users in the index.
+     *
+     * @return number of users.
+     */
+    public int size() {
+        return groupsByUser.size();
+    }
+
+    private void removeGroup(final UUID userId, final UUID projectId) {
+        groupsByUser.computeIfPresent(userId, (id, groups) -> {
+            groups.remove(projectId);
+            return groups.isEmpty() ? null : groups;
+        });
+    }
+
+    private void evictExpired(final long now) {
+        if (now - evictedAt <= ttlNanos) {
+            return;
+        }
+        evictedAt = now;
+        usersLoadedAt.values().removeIf(loadedAt -> !isActual(loadedAt, now));
+        projectsLoadedAt.values().removeIf(loadedAt -> !isActual(loadedAt, now));
+        permissionsByProject.keySet().stream()
+                .filter(projectId -> !isActual(permissionsByProject.get(projectId).loadedAt(), now))
+                .toList()
+                .forEach(this::removeProject);
+    }
+
+    private boolean isActual(final Long loadedAt, final long now) {
+        return loadedAt != null && now - loadedAt <= ttlNanos;
+    }
+
+    private static void addMembers(final Map<UUID, Group> members, final Set<UUID> userIds, final Group group) {
+        if (userIds != null) {
+            for (UUID userId : userIds) {
+                members.put(userId, group);
+            }
+        }
+    }
+
+    private static boolean isSupportRole(final Set<String> userRoles) {
+        return Role.ATP_SUPPORT.isSet(Role.toMask(userRoles));
+    }
+
+    /**
+     * Role permissions of a project.
+     *
+     * @param permissions role permissions
+     * @param loadedAt time the entry has been loaded at, in nanoseconds.
+     */
+    private record ProjectPermissions(Permissions permissions, long loadedAt) {
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.services.batch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import com.google.common.collect.Lists;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads projects missing in caches for a check against a set of projects.
+ * Projects are requested in batches of 'batchSize' ids; if a batch request fails (e.g. the users service
+ * doesn't support batch requests yet), projects of the batch are requested one by one.
+ * At most 'parallelism' requests are in flight at any moment; they are executed on virtual threads
+ * with the security context of the caller.
+ * Each project is checked as soon as it's loaded: the first project not matching the check decides the result,
+ * and outstanding requests are cancelled.
+ */
+@Slf4j
+@Getter
+public class ProjectBatchLoader {
+
+    /**
+     * Maximum number of projects in a batch request.
+     */
+    private final int batchSize;
+
+    /**
+     * Maximum number of requests executed concurrently.
+     */
+    private final int parallelism;
+
+    /**
+     * Constructor.
+     *
+     * @param batchSize maximum number of projects in a batch request
+     * @param parallelism maximum number of requests executed concurrently.
+     */
+    public ProjectBatchLoader(final int batchSize, final int parallelism) {
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Batch size and parallelism must be positive: %d, %d".formatted(batchSize, parallelism));
+        }
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Load projects and check if all of them match the predicate.
+     *
+     * @param projectIds UUIDs of projects to load
+     * @param batchLoader loader of a batch of projects
+     * @param singleLoader loader of a single project
+     * @param predicate check of a loaded project
+     * @return true if all projects match the predicate.
+     */
+    public boolean allMatch(final List<UUID> projectIds,
+                            final Function<List<UUID>, List<Project>> batchLoader,
+                            final Function<UUID, Project> singleLoader,
+                            final Predicate<Project> predicate) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            return true;
+        }
+        ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                Executors.newVirtualThreadPerTaskExecutor());
+        CompletionService<Loaded> completion = new ExecutorCompletionService<>(executor);
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<Future<Loaded>> futures = new ArrayList<>();
+        try {
+            for (List<UUID> batch : Lists.partition(projectIds, batchSize)) {
+                futures.add(completion.submit(() -> load(inFlight, batch, true, () -> batchLoader.apply(batch))));
+            }
+            int pending = futures.size();
+            while (pending > 0) {
+                Loaded loaded = await(completion);
+                pending--;
+                if (loaded.failure() != null) {
+                    if (!loaded.batch()) {
+                        throw loaded.failure();
+                    }
+                    log.warn("Failed to load batch of {} project(s), loading them one by one",
+                            loaded.requested().size(), loaded.failure());
+                    pending += submitSingles(completion, futures, inFlight, loaded.requested(), singleLoader);
+                    continue;
+                }
+                Set<UUID> missing = new HashSet<>(loaded.requested());
+                for (Project project : loaded.projects()) {
+                    if (!predicate.test(project)) {
+                        return false;
+                    }
+                    missing.remove(project.getUuid());
+                }
+                if (loaded.batch() && !missing.isEmpty()) {
+                    pending += submitSingles(completion, futures, inFlight, missing, singleLoader);
+                }
+            }
+            return true;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+        }
+    }
+
+    private int submitSingles(final CompletionService<Loaded> completion,
+                              final List<Future<Loaded>> futures,
+                              final Semaphore inFlight,
+                              final Iterable<UUID> projectIds,
+                              final Function<UUID, Project> singleLoader) {
+        int submitted = 0;
+        for (UUID projectId : projectIds) {
+            futures.add(completion.submit(() -> load(inFlight, List.of(projectId), false,
+                    () -> List.of(singleLoader.apply(projectId)))));
+            submitted++;
+        }
+        return submitted;
+    }
+
+    private static Loaded load(final Semaphore inFlight,
+                               final List<UUID> requested,
+                               final boolean batch,
+                               final Supplier<List<Project>> loader) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            return new Loaded(requested, batch, loader.get(), null);
+        } catch (RuntimeException e) {
+            return new Loaded(requested, batch, List.of(), e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private static Loaded await(final CompletionService<Loaded> completion) {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading projects", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Result of a request.
+     *
+     * @param requested UUIDs of requested projects
+     * @param batch true if the projects are requested by a batch request
+     * @param projects loaded projects
+     * @param failure exception thrown by the request, or null.
+     */
+    private record Loaded(List<UUID> requested, boolean batch, List<Project> projects, RuntimeException failure) {
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.bulk;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Progress/metrics hook of a chunked bulk operation.
+ * Callbacks may be invoked concurrently from different worker threads.
+ */
+public interface BulkOperationListener<T> {
+
+    /**
+     * Called when a chunk is processed successfully.
+     *
+     * @param chunk items of the chunk
+     * @param elapsed time spent to process the chunk.
+     */
+    default void onChunkSucceeded(List<T> chunk, Duration elapsed) {
+    }
+
+    /**
+     * Called when processing of a chunk failed.
+     *
+     * @param chunk items of the chunk
+     * @param exception exception faced.
+     */
+    default void onChunkFailed(List<T> chunk, Exception exception) {
+    }
+
+    /**
+     * Listener doing nothing.
+     *
+     * @return no-op listener.
+     */
+    static <T> BulkOperationListener<T> noop() {
+        return new BulkOperationListener<>() {
+        };
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.bulk;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a chunked bulk operation: how many items were processed and which chunks failed.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkOperationResult<T> {
+
+    /**
+     * Total number of items requested.
+     */
+    private final int total;
+
+    /**
+     * Number of items processed successfully.
+     */
+    private final int succeeded;
+
+    /**
+     * Chunks failed to be processed.
+     */
+    private final List<FailedChunk<T>> failures;
+
+    /**
+     * Check if all the items are processed successfully.
+     *
+     * @return true if there are no failed chunks, otherwise false.
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Get number of items which are not processed.
+     *
+     * @return number of failed items.
+     */
+    public int getFailed() {
+        return total - succeeded;
+    }
+
+    /**
+     * Chunk failed to be processed, together with the cause.
+     *
+     * @param items items of the chunk
+     * @param cause exception faced.
+     */
+    public record FailedChunk<T>(List<T> items, Exception cause) {
+    }
+}
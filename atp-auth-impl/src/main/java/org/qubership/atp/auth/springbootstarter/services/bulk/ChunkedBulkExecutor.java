@@ -0,0 +1,128 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.bulk;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.google.common.collect.Lists;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Splits a large list of items into chunks and processes the chunks with bounded parallelism.
+ * Chunks are views of the source list, so items are never copied.
+ * At most 'parallelism' chunks are in flight at any moment; submission of the next chunk waits
+ * until one of them completes, so requests are pipelined over the pooled http connections.
+ * A failed chunk doesn't stop processing of the others; failures are collected into the result.
+ * Chunks are processed on separate threads, so the security context of the caller isn't available there.
+ */
+@Slf4j
+@Getter
+public class ChunkedBulkExecutor {
+
+    /**
+     * Maximum number of items in a chunk.
+     */
+    private final int chunkSize;
+
+    /**
+     * Maximum number of chunks processed concurrently.
+     */
+    private final int parallelism;
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize maximum number of items in a chunk
+     * @param parallelism maximum number of chunks processed concurrently.
+     */
+    public ChunkedBulkExecutor(final int chunkSize, final int parallelism) {
+        if (chunkSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Chunk size and parallelism must be positive: %d, %d".formatted(chunkSize, parallelism));
+        }
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Process items chunk by chunk.
+     *
+     * @param items items to process
+     * @param chunkAction action to perform against each chunk
+     * @param listener progress listener
+     * @return result of the bulk operation.
+     */
+    public <T> BulkOperationResult<T> execute(final List<T> items,
+                                              final Consumer<List<T>> chunkAction,
+                                              final BulkOperationListener<T> listener) {
+        if (items == null || items.isEmpty()) {
+            return new BulkOperationResult<>(0, 0, List.of());
+        }
+        List<List<T>> chunks = Lists.partition(items, chunkSize);
+        AtomicInteger succeeded = new AtomicInteger();
+        Queue<BulkOperationResult.FailedChunk<T>> failures = new ConcurrentLinkedQueue<>();
+        if (chunks.size() == 1 || parallelism == 1) {
+            chunks.forEach(chunk -> process(chunk, chunkAction, listener, succeeded, failures));
+        } else {
+            Semaphore inFlight = new Semaphore(parallelism);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (List<T> chunk : chunks) {
+                    inFlight.acquireUninterruptibly();
+                    executor.execute(() -> {
+                        try {
+                            process(chunk, chunkAction, listener, succeeded, failures);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            log.warn("Bulk operation partially failed: {} of {} chunk(s) failed",
+                    failures.size(), chunks.size());
+        }
+        return new BulkOperationResult<>(items.size(), succeeded.get(), List.copyOf(failures));
+    }
+
+    private <T> void process(final List<T> chunk,
+                             final Consumer<List<T>> chunkAction,
+                             final BulkOperationListener<T> listener,
+                             final AtomicInteger succeeded,
+                             final Queue<BulkOperationResult.FailedChunk<T>> failures) {
+        long start = System.nanoTime();
+        try {
+            chunkAction.accept(chunk);
+        } catch (Exception e) {
+            log.error("Failed to process chunk of {} item(s)", chunk.size(), e);
+            failures.add(new BulkOperationResult.FailedChunk<>(chunk, e));
+            listener.onChunkFailed(chunk, e);
+            return;
+        }
+        succeeded.addAndGet(chunk.size());
+        listener.onChunkSucceeded(chunk, Duration.ofNanos(System.nanoTime() - start));
+    }
+}
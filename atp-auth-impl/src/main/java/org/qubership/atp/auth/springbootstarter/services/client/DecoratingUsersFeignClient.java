@@ -0,0 +1,171 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.qubership.atp.auth.springbootstarter.entities.ObjectPermissionIndex;
+import org.qubership.atp.auth.springbootstarter.entities.ObjectPermissions;
+import org.qubership.atp.auth.springbootstarter.entities.Operations;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.entities.ServiceEntities;
+import org.qubership.atp.auth.springbootstarter.entities.UserInfo;
+
+/**
+ * Base class of UsersFeignClient decorators (circuit breaker, hedging, concurrency limiting etc.).
+ * Every call of the delegate is passed through {@link #invoke(Call, Supplier)},
+ * so a decorator implements its logic once for all methods of the client.
+ */
+public abstract class DecoratingUsersFeignClient implements UsersFeignClient {
+
+    /**
+     * Decorated client.
+     */
+    protected final UsersFeignClient delegate;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate decorated client.
+     */
+    protected DecoratingUsersFeignClient(final UsersFeignClient delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Invoke the call of the delegate.
+     *
+     * @param call description of the call
+     * @param action action calling the delegate
+     * @return result of the call.
+     */
+    protected abstract <T> T invoke(Call call, Supplier<T> action);
+
+    @Override
+    public Project getUsersByProject(final UUID projectId) {
+        return invoke(Call.read("getUsersByProject", projectId), () -> delegate.getUsersByProject(projectId));
+    }
+
+    @Override
+    public List<Project> getUsersByProjects(final List<UUID> projectIds) {
+        return invoke(Call.read("getUsersByProjects", projectIds), () -> delegate.getUsersByProjects(projectIds));
+    }
+
+    @Override
+    public List<Project> getProjectsByUserId(final UUID userId) {
+        return invoke(Call.read("getProjectsByUserId", userId), () -> delegate.getProjectsByUserId(userId));
+    }
+
+    @Override
+    public void save(final ServiceEntities serviceEntities) {
+        invoke(Call.write("save"), () -> {
+            delegate.save(serviceEntities);
+            return null;
+        });
+    }
+
+    @Override
+    public ObjectPermissions saveObjectPermissions(final UUID projectId,
+                                                   final String serviceName,
+                                                   final String objectId,
+                                                   final Map<UUID, Operations> assignedUsers) {
+        return invoke(Call.write("saveObjectPermissions"),
+                () -> delegate.saveObjectPermissions(projectId, serviceName, objectId, assignedUsers));
+    }
+
+    @Override
+    public Map<String, Map<UUID, Operations>> getObjectPermissionsByObjectId(final UUID projectId,
+                                                                             final String serviceName,
+                                                                             final String objectId) {
+        return invoke(Call.read("getObjectPermissionsByObjectId", projectId, serviceName, objectId),
+                () -> delegate.getObjectPermissionsByObjectId(projectId, serviceName, objectId));
+    }
+
+    @Override
+    public Map<String, Map<UUID, Operations>> getObjectPermissionsByServiceName(final UUID projectId,
+                                                                                final String serviceName) {
+        return invoke(Call.read("getObjectPermissionsByServiceName", projectId, serviceName),
+                () -> delegate.getObjectPermissionsByServiceName(projectId, serviceName));
+    }
+
+    @Override
+    public ObjectPermissionIndex getObjectPermissionIndexByServiceName(final UUID projectId,
+                                                                       final String serviceName) {
+        return invoke(Call.read("getObjectPermissionIndexByServiceName", projectId, serviceName),
+                () -> delegate.getObjectPermissionIndexByServiceName(projectId, serviceName));
+    }
+
+    @Override
+    public List<UserInfo> getUsersInfoByProjectId(final UUID projectId, final List<UUID> uuids) {
+        return invoke(Call.read("getUsersInfoByProjectId", projectId, uuids),
+                () -> delegate.getUsersInfoByProjectId(projectId, uuids));
+    }
+
+    @Override
+    public void deleteObjectPermissions(final UUID projectId, final String serviceName, final String objectId) {
+        invoke(Call.write("deleteObjectPermissions"), () -> {
+            delegate.deleteObjectPermissions(projectId, serviceName, objectId);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteObjectPermissionsBulk(final UUID projectId,
+                                            final String serviceName,
+                                            final List<String> objectIds) {
+        invoke(Call.write("deleteObjectPermissionsBulk"), () -> {
+            delegate.deleteObjectPermissionsBulk(projectId, serviceName, objectIds);
+            return null;
+        });
+    }
+
+    /**
+     * Description of a client call.
+     *
+     * @param method name of the client method
+     * @param arguments arguments identifying the result (for read calls), usable as a cache key
+     * @param readOnly true if the call doesn't modify data.
+     */
+    public record Call(String method, List<Object> arguments, boolean readOnly) {
+
+        /**
+         * Create description of a read-only call.
+         *
+         * @param method name of the client method
+         * @param arguments arguments identifying the result
+         * @return Call object.
+         */
+        public static Call read(final String method, final Object... arguments) {
+            return new Call(method, Collections.unmodifiableList(Arrays.asList(arguments)), true);
+        }
+
+        /**
+         * Create description of a modifying call.
+         *
+         * @param method name of the client method
+         * @return Call object.
+         */
+        public static Call write(final String method) {
+            return new Call(method, List.of(), false);
+        }
+    }
+}
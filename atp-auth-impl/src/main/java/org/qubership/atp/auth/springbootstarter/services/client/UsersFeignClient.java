@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.qubership.atp.auth.springbootstarter.entities.ObjectPermissionIndex;
 import org.qubership.atp.auth.springbootstarter.entities.ObjectPermissions;
 import org.qubership.atp.auth.springbootstarter.entities.Operations;
 import org.qubership.atp.auth.springbootstarter.entities.Project;
@@ -32,6 +33,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "${feign.atp.users.name}", url = "${feign.atp.users.url}")
 public interface UsersFeignClient {
@@ -45,6 +47,25 @@ public interface UsersFeignClient {
     @GetMapping("${feign.atp.users.route}${atp-auth.project_info_endpoint}/{projectId}")
     Project getUsersByProject(@PathVariable("projectId") UUID projectId);
 
+    /**
+     * Get Users with roles for the Projects identified by UUIDs projectIds.
+     * Projects not found are missing in the response.
+     *
+     * @param projectIds List of UUIDs of Projects
+     * @return List of Project objects with Users vs. Roles information.
+     */
+    @GetMapping("${feign.atp.users.route}${atp-auth.project_info_endpoint}/batch")
+    List<Project> getUsersByProjects(@RequestParam("ids") List<UUID> projectIds);
+
+    /**
+     * Get Projects the User identified by UUID userId is a member of.
+     *
+     * @param userId UUID of a User
+     * @return List of Project objects with Users vs. Roles information.
+     */
+    @GetMapping("${feign.atp.users.route}/api/v1/users/{userId}/projects")
+    List<Project> getProjectsByUserId(@PathVariable("userId") UUID userId);
+
     /**
      * Save service entities for this service.
      *
@@ -95,6 +116,20 @@ public interface UsersFeignClient {
     Map<String, Map<UUID, Operations>> getObjectPermissionsByServiceName(@PathVariable UUID projectId,
                                                                          @PathVariable String serviceName);
 
+    /**
+     * Get object permissions for the project, service as compact index.
+     * Response is the same as of getObjectPermissionsByServiceName, but it's parsed in streaming mode
+     * directly into the index, without intermediate maps.
+     *
+     * @param projectId UUID id of a project,
+     * @param serviceName String service name,
+     * @return ObjectPermissionIndex object.
+     */
+    @GetMapping("${feign.atp.users.route}${atp-auth.project_info_endpoint}/{projectId}/services/{serviceName}"
+                    + "/objects/permissions")
+    ObjectPermissionIndex getObjectPermissionIndexByServiceName(@PathVariable UUID projectId,
+                                                                @PathVariable String serviceName);
+
     /**
      * Get users information for the project.
      *
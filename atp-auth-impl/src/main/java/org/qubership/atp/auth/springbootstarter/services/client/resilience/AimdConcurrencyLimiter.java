@@ -0,0 +1,191 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client.resilience;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive concurrency limiter (additive increase, multiplicative decrease).
+ * The limit grows by one after a successful call made while at least half of the limit is in use,
+ * and is multiplied by 'backoffRatio' after a call which is dropped by the backend or is slower
+ * than 'latencyThreshold'. Calls over the limit wait in a bounded queue up to the given timeout;
+ * when the queue is full, or the timeout passes, the call is rejected.
+ */
+public class AimdConcurrencyLimiter {
+
+    /**
+     * Lock guarding the limit and counters.
+     */
+    private final ReentrantLock lock = new ReentrantLock(true);
+
+    /**
+     * Condition signalled when a permit is released or the limit grows.
+     */
+    private final Condition permitAvailable = lock.newCondition();
+
+    /**
+     * Minimum limit.
+     */
+    private final int minLimit;
+
+    /**
+     * Maximum limit.
+     */
+    private final int maxLimit;
+
+    /**
+     * Multiplier applied to the limit on a dropped or slow call, from 0 to 1.
+     */
+    private final double backoffRatio;
+
+    /**
+     * Latency treated as overload of the backend, in nanoseconds.
+     */
+    private final long latencyThresholdNanos;
+
+    /**
+     * Maximum number of calls waiting for a permit.
+     */
+    private final int maxQueued;
+
+    /**
+     * Current limit.
+     */
+    private volatile int limit;
+
+    /**
+     * Number of calls in flight.
+     */
+    private volatile int inflight;
+
+    /**
+     * Number of calls waiting for a permit.
+     */
+    private int queued;
+
+    /**
+     * Constructor.
+     *
+     * @param initialLimit initial limit
+     * @param minLimit minimum limit
+     * @param maxLimit maximum limit
+     * @param backoffRatio multiplier applied to the limit on a dropped or slow call
+     * @param latencyThresholdNanos latency treated as overload of the backend, in nanoseconds
+     * @param maxQueued maximum number of calls waiting for a permit.
+     */
+    public AimdConcurrencyLimiter(final int initialLimit,
+                                  final int minLimit,
+                                  final int maxLimit,
+                                  final double backoffRatio,
+                                  final long latencyThresholdNanos,
+                                  final int maxQueued) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException(
+                    "Invalid concurrency limits: min %d, max %d, backoff ratio %s"
+                            .formatted(minLimit, maxLimit, backoffRatio));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.maxQueued = maxQueued;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Acquire a permit, waiting in the queue if the limit is reached.
+     *
+     * @param timeoutNanos maximum time to wait, in nanoseconds
+     * @return true if the permit is acquired, false if the call is rejected.
+     */
+    public boolean tryAcquire(final long timeoutNanos) {
+        lock.lock();
+        try {
+            if (inflight < limit) {
+                inflight++;
+                return true;
+            }
+            if (queued >= maxQueued || timeoutNanos <= 0) {
+                return false;
+            }
+            queued++;
+            try {
+                long remaining = timeoutNanos;
+                while (inflight >= limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = permitAvailable.awaitNanos(remaining);
+                }
+                inflight++;
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release the permit and adjust the limit by the outcome of the call.
+     *
+     * @param latencyNanos latency of the call, in nanoseconds
+     * @param dropped true if the call is dropped by the backend (timeout, overload).
+     */
+    public void release(final long latencyNanos, final boolean dropped) {
+        lock.lock();
+        try {
+            int current = limit;
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, (int) (current * backoffRatio));
+            } else if (inflight * 2 >= current) {
+                limit = Math.min(maxLimit, current + 1);
+            }
+            inflight--;
+            if (limit > current) {
+                permitAvailable.signalAll();
+            } else {
+                permitAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get current limit.
+     *
+     * @return current limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Get number of calls in flight.
+     *
+     * @return number of calls in flight.
+     */
+    public int getInflight() {
+        return inflight;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Count-based circuit breaker.
+ * CLOSED: outcomes of the last 'windowSize' calls are recorded; when at least 'minimumCalls' are recorded
+ * and failure rate reaches the threshold, the breaker goes OPEN.
+ * OPEN: calls are not permitted until 'openDuration' passes, then the breaker goes HALF_OPEN.
+ * HALF_OPEN: up to 'halfOpenCalls' trial calls are permitted; the breaker goes CLOSED if all of them succeed,
+ * or OPEN again on the first failure.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    /**
+     * State of the circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Listener of state transitions.
+     */
+    @FunctionalInterface
+    public interface TransitionListener {
+
+        /**
+         * Called on state transition.
+         *
+         * @param from previous state
+         * @param to new state.
+         */
+        void onTransition(State from, State to);
+    }
+
+    /**
+     * Name of the breaker, used in logs.
+     */
+    private final String name;
+
+    /**
+     * Failure rate (percents) to open the breaker.
+     */
+    private final int failureRateThreshold;
+
+    /**
+     * Minimum number of recorded calls to calculate failure rate.
+     */
+    private final int minimumCalls;
+
+    /**
+     * Time to stay OPEN, in nanoseconds.
+     */
+    private final long openDurationNanos;
+
+    /**
+     * Number of trial calls in HALF_OPEN state.
+     */
+    private final int halfOpenCalls;
+
+    /**
+     * Listener of state transitions.
+     */
+    private final TransitionListener listener;
+
+    /**
+     * Source of current time, in nanoseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Ring of recorded outcomes: true means failure.
+     */
+    private final boolean[] outcomes;
+
+    /**
+     * Next position in the ring.
+     */
+    private int position;
+
+    /**
+     * Number of recorded outcomes.
+     */
+    private int recorded;
+
+    /**
+     * Number of failures in the ring.
+     */
+    private int failures;
+
+    /**
+     * Current state.
+     */
+    private State state = State.CLOSED;
+
+    /**
+     * Time the breaker has been opened at, in nanoseconds.
+     */
+    private long openedAt;
+
+    /**
+     * Number of trial calls permitted in HALF_OPEN state.
+     */
+    private int trialsPermitted;
+
+    /**
+     * Number of trial calls succeeded in HALF_OPEN state.
+     */
+    private int trialsSucceeded;
+
+    /**
+     * Constructor.
+     *
+     * @param name name of the breaker
+     * @param windowSize number of last calls to calculate failure rate
+     * @param minimumCalls minimum number of recorded calls to calculate failure rate
+     * @param failureRateThreshold failure rate (percents) to open the breaker
+     * @param openDuration time to stay OPEN
+     * @param halfOpenCalls number of trial calls in HALF_OPEN state
+     * @param listener listener of state transitions
+     * @param clock source of current time, in nanoseconds.
+     */
+    public CircuitBreaker(final String name,
+                          final int windowSize,
+                          final int minimumCalls,
+                          final int failureRateThreshold,
+                          final Duration openDuration,
+                          final int halfOpenCalls,
+                          final TransitionListener listener,
+                          final LongSupplier clock) {
+        this.name = name;
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.listener = listener;
+        this.clock = clock;
+    }
+
+    /**
+     * Check if a call is permitted; in HALF_OPEN state it takes one of trial calls.
+     *
+     * @return true if the call is permitted.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationNanos) {
+            transition(State.HALF_OPEN);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialsPermitted < halfOpenCalls) {
+                    trialsPermitted++;
+                    yield true;
+                }
+                yield false;
+            }
+        };
+    }
+
+    /**
+     * Record successful call.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++trialsSucceeded >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Record failed call.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transition(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                transition(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * Get current state.
+     *
+     * @return State of the breaker.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(final boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % outcomes.length;
+    }
+
+    private void transition(final State to) {
+        State from = state;
+        state = to;
+        switch (to) {
+            case OPEN -> openedAt = clock.getAsLong();
+            case HALF_OPEN -> {
+                trialsPermitted = 0;
+                trialsSucceeded = 0;
+            }
+            case CLOSED -> {
+                position = 0;
+                recorded = 0;
+                failures = 0;
+            }
+        }
+        log.warn("Circuit breaker '{}' changed state from {} to {}", name, from, to);
+        listener.onTransition(from, to);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client.resilience;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.qubership.atp.auth.springbootstarter.exceptions.AtpServiceUnavailableException;
+import org.qubership.atp.auth.springbootstarter.services.client.DecoratingUsersFeignClient;
+import org.qubership.atp.auth.springbootstarter.services.client.UsersFeignClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * UsersFeignClient decorator with circuit breaker.
+ * Connection errors, 429 and 5xx responses are failures for the breaker; other errors are business ones.
+ * The last successful result of each read call is kept in a stale tier for 'maxStaleness'
+ * (longer than the normal cache TTL). When the breaker is open, or the call fails,
+ * the stale result is returned if any; otherwise an open breaker fails fast with
+ * {@link AtpServiceUnavailableException}, and a failed call propagates its error.
+ * Stale results are references to the objects returned by the client (usually also held by the cache),
+ * so the tier doesn't duplicate them.
+ */
+@Slf4j
+public class CircuitBreakingUsersFeignClient extends DecoratingUsersFeignClient {
+
+    /**
+     * Name of the decorated service.
+     */
+    private static final String SERVICE_NAME = "atp-users";
+
+    /**
+     * Circuit breaker.
+     */
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Last successful results of read calls; null if the stale tier is turned off.
+     */
+    private final Cache<Call, Object> staleResults;
+
+    /**
+     * Counter of calls answered by stale results.
+     */
+    private final Counter staleCounter;
+
+    /**
+     * Counter of calls rejected by open breaker.
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate decorated client
+     * @param settings circuit breaker settings
+     * @param meterRegistry registry of circuit breaker meters.
+     */
+    public CircuitBreakingUsersFeignClient(final UsersFeignClient delegate,
+                                           final Settings settings,
+                                           final MeterRegistry meterRegistry) {
+        super(delegate);
+        this.circuitBreaker = new CircuitBreaker(SERVICE_NAME, settings.windowSize(), settings.minimumCalls(),
+                settings.failureRateThreshold(), settings.openDuration(), settings.halfOpenCalls(),
+                (from, to) -> Counter.builder("atp.auth.users.circuit-breaker.transitions")
+                        .description("State transitions of users service circuit breaker")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .register(meterRegistry)
+                        .increment(),
+                System::nanoTime);
+        this.staleResults = settings.maxStaleness().isZero()
+                ? null
+                : Caffeine.newBuilder()
+                        .maximumSize(settings.staleMaxSize())
+                        .expireAfterWrite(settings.maxStaleness())
+                        .build();
+        Gauge.builder("atp.auth.users.circuit-breaker.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("State of users service circuit breaker: 0 - closed, 1 - open, 2 - half open")
+                .register(meterRegistry);
+        this.staleCounter = fallbackCounter(meterRegistry, "stale");
+        this.rejectedCounter = fallbackCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * Get the circuit breaker.
+     *
+     * @return CircuitBreaker object.
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Override
+    protected <T> T invoke(final Call call, final Supplier<T> action) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback(call, null);
+        }
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            if (!isBackendFailure(e)) {
+                circuitBreaker.onSuccess();
+                throw e;
+            }
+            circuitBreaker.onFailure();
+            return fallback(call, e);
+        }
+        circuitBreaker.onSuccess();
+        if (call.readOnly() && staleResults != null && result != null) {
+            staleResults.put(call, result);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T fallback(final Call call, final RuntimeException failure) {
+        Object stale = call.readOnly() && staleResults != null ? staleResults.getIfPresent(call) : null;
+        if (stale != null) {
+            staleCounter.increment();
+            log.warn("Users service call {}{} is answered by stale result: {}", call.method(), call.arguments(),
+                    failure == null ? "circuit breaker is open" : failure.getMessage());
+            return (T) stale;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        rejectedCounter.increment();
+        throw new AtpServiceUnavailableException(SERVICE_NAME, "circuit breaker is open");
+    }
+
+    static boolean isBackendFailure(final RuntimeException exception) {
+        if (exception instanceof FeignException feignException) {
+            int status = feignException.status();
+            return status <= 0 || status == 429 || status >= 500;
+        }
+        return false;
+    }
+
+    private static Counter fallbackCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("atp.auth.users.circuit-breaker.fallbacks")
+                .description("Users service calls not made because of failures or open circuit breaker")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Circuit breaker settings.
+     *
+     * @param windowSize number of last calls to calculate failure rate
+     * @param minimumCalls minimum number of recorded calls to calculate failure rate
+     * @param failureRateThreshold failure rate (percents) to open the breaker
+     * @param openDuration time to stay open before trial calls
+     * @param halfOpenCalls number of trial calls
+     * @param maxStaleness time to keep last successful results; zero turns the stale tier off
+     * @param staleMaxSize maximum number of kept results.
+     */
+    public record Settings(int windowSize,
+                           int minimumCalls,
+                           int failureRateThreshold,
+                           Duration openDuration,
+                           int halfOpenCalls,
+                           Duration maxStaleness,
+                           long staleMaxSize) {
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client.resilience;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.qubership.atp.auth.springbootstarter.exceptions.AtpServiceOverloadedException;
+import org.qubership.atp.auth.springbootstarter.services.client.DecoratingUsersFeignClient;
+import org.qubership.atp.auth.springbootstarter.services.client.UsersFeignClient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * UsersFeignClient decorator limiting the number of concurrent calls to the users service.
+ * The limit adapts to the backend: see {@link AimdConcurrencyLimiter}. Connection errors, 429 and 5xx
+ * responses are drops, as they are for the circuit breaker. Calls over the limit wait in the queue
+ * up to 'queueTimeout'; rejected calls fail fast with {@link AtpServiceOverloadedException}.
+ */
+@Slf4j
+public class ConcurrencyLimitingUsersFeignClient extends DecoratingUsersFeignClient {
+
+    /**
+     * Name of the decorated service.
+     */
+    private static final String SERVICE_NAME = "atp-users";
+
+    /**
+     * Concurrency limiter.
+     */
+    private final AimdConcurrencyLimiter limiter;
+
+    /**
+     * Maximum time to wait in the queue, in nanoseconds.
+     */
+    private final long queueTimeoutNanos;
+
+    /**
+     * Counter of rejected calls.
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate decorated client
+     * @param settings concurrency limit settings
+     * @param meterRegistry registry of concurrency limit meters.
+     */
+    public ConcurrencyLimitingUsersFeignClient(final UsersFeignClient delegate,
+                                               final Settings settings,
+                                               final MeterRegistry meterRegistry) {
+        super(delegate);
+        this.limiter = new AimdConcurrencyLimiter(settings.initialLimit(), settings.minLimit(), settings.maxLimit(),
+                settings.backoffRatio(), settings.latencyThreshold().toNanos(), settings.maxQueued());
+        this.queueTimeoutNanos = settings.queueTimeout().toNanos();
+        Gauge.builder("atp.auth.users.concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                .description("Concurrency limit of calls to users service")
+                .register(meterRegistry);
+        Gauge.builder("atp.auth.users.concurrency.inflight", limiter, AimdConcurrencyLimiter::getInflight)
+                .description("Calls to users service in flight")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("atp.auth.users.concurrency.rejected")
+                .description("Calls to users service rejected by concurrency limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the concurrency limiter.
+     *
+     * @return AimdConcurrencyLimiter object.
+     */
+    public AimdConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    protected <T> T invoke(final Call call, final Supplier<T> action) {
+        if (!limiter.tryAcquire(queueTimeoutNanos)) {
+            rejectedCounter.increment();
+            log.warn("Users service call {} is rejected: concurrency limit {} is exceeded",
+                    call.method(), limiter.getLimit());
+            throw new AtpServiceOverloadedException(SERVICE_NAME, limiter.getLimit());
+        }
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            dropped = CircuitBreakingUsersFeignClient.isBackendFailure(e);
+            throw e;
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    /**
+     * Concurrency limit settings.
+     *
+     * @param initialLimit initial limit
+     * @param minLimit minimum limit
+     * @param maxLimit maximum limit
+     * @param backoffRatio multiplier applied to the limit on a dropped or slow call
+     * @param latencyThreshold latency treated as overload of the backend
+     * @param maxQueued maximum number of calls waiting for a permit
+     * @param queueTimeout maximum time to wait for a permit.
+     */
+    public record Settings(int initialLimit,
+                           int minLimit,
+                           int maxLimit,
+                           double backoffRatio,
+                           Duration latencyThreshold,
+                           int maxQueued,
+                           Duration queueTimeout) {
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client.resilience;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.qubership.atp.auth.springbootstarter.feign.retry.RetryBudget;
+import org.qubership.atp.auth.springbootstarter.services.client.DecoratingUsersFeignClient;
+import org.qubership.atp.auth.springbootstarter.services.client.UsersFeignClient;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * UsersFeignClient decorator hedging slow read calls.
+ * If the call doesn't complete within the delay (the configured percentile of its recent latencies,
+ * but not less than the minimum delay), the same call is sent again and the first successful answer is taken.
+ * When the client is load-balanced, the hedged request goes to the next instance chosen by the load balancer
+ * (round-robin by default), so a single slow replica doesn't hold the call.
+ * Hedges are limited by a budget: every call deposits 'ratio' of a token, every hedge takes a whole one.
+ * Requests are executed on virtual threads with the security context of the caller.
+ */
+@Slf4j
+public class HedgingUsersFeignClient extends DecoratingUsersFeignClient {
+
+    /**
+     * Hedging settings.
+     */
+    private final Settings settings;
+
+    /**
+     * Executor of requests.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Hedging budget.
+     */
+    private final RetryBudget budget;
+
+    /**
+     * Recent latencies by method.
+     */
+    private final Map<String, LatencyPercentile> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Counter of hedged requests sent.
+     */
+    private final Counter firedCounter;
+
+    /**
+     * Counter of hedged requests answered first.
+     */
+    private final Counter wonCounter;
+
+    /**
+     * Counter of hedges not sent because of exhausted budget.
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate decorated client
+     * @param settings hedging settings
+     * @param meterRegistry registry of hedging meters.
+     */
+    public HedgingUsersFeignClient(final UsersFeignClient delegate,
+                                   final Settings settings,
+                                   final MeterRegistry meterRegistry) {
+        super(delegate);
+        this.settings = settings;
+        this.executor = new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+        this.budget = new RetryBudget(settings.budgetRatio(), settings.budgetMaxTokens());
+        this.firedCounter = hedgingCounter(meterRegistry, "fired");
+        this.wonCounter = hedgingCounter(meterRegistry, "won");
+        this.rejectedCounter = hedgingCounter(meterRegistry, "budget_exhausted");
+    }
+
+    @Override
+    protected <T> T invoke(final Call call, final Supplier<T> action) {
+        if (!call.readOnly() || !settings.methods().contains(call.method())) {
+            return action.get();
+        }
+        budget.deposit();
+        LatencyPercentile latency = latencies.computeIfAbsent(call.method(),
+                method -> new LatencyPercentile(settings.windowSize(), settings.percentile()));
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        long start = System.nanoTime();
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(action, executor);
+        primary.whenComplete((value, error) -> {
+            if (error == null) {
+                latency.record(System.nanoTime() - start);
+            }
+            complete(result, pending, value, error, false);
+        });
+        try {
+            return await(result, delayNanos(latency));
+        } catch (TimeoutException e) {
+            if (!result.isDone()) {
+                if (budget.tryWithdraw()) {
+                    pending.incrementAndGet();
+                    firedCounter.increment();
+                    log.debug("Users service call {} is hedged after {} ms", call.method(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    CompletableFuture.supplyAsync(action, executor)
+                            .whenComplete((value, error) -> complete(result, pending, value, error, true));
+                } else {
+                    rejectedCounter.increment();
+                }
+            }
+            return await(result);
+        }
+    }
+
+    private <T> void complete(final CompletableFuture<T> result, final AtomicInteger pending,
+                              final T value, final Throwable error, final boolean hedge) {
+        if (error == null) {
+            if (result.complete(value) && hedge) {
+                wonCounter.increment();
+            }
+        } else if (pending.decrementAndGet() == 0) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private long delayNanos(final LatencyPercentile latency) {
+        long percentile = latency.getNanos();
+        long minDelay = settings.minDelay().toNanos();
+        return percentile < 0 ? Math.max(minDelay, settings.initialDelay().toNanos()) : Math.max(minDelay, percentile);
+    }
+
+    private static <T> T await(final CompletableFuture<T> result, final long timeoutNanos) throws TimeoutException {
+        try {
+            return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException | ExecutionException e) {
+            throw failure(e);
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw failure(e);
+        }
+    }
+
+    private static RuntimeException failure(final Exception exception) {
+        if (exception instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+            return new IllegalStateException("Interrupted while waiting for users service response", exception);
+        }
+        Throwable cause = exception.getCause() instanceof CompletionException
+                ? exception.getCause().getCause()
+                : exception.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static Counter hedgingCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("atp.auth.users.hedging")
+                .description("Hedged requests to users service")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hedging settings.
+     *
+     * @param methods names of client methods to hedge
+     * @param percentile percentile of recent latencies to wait before hedging, from 0 to 1
+     * @param windowSize number of recent latencies to keep per method
+     * @param initialDelay delay before hedging until enough latencies are recorded
+     * @param minDelay minimum delay before hedging
+     * @param budgetRatio fraction of calls which can be hedged
+     * @param budgetMaxTokens maximum number of hedges in a burst.
+     */
+    public record Settings(Set<String> methods,
+                           double percentile,
+                           int windowSize,
+                           Duration initialDelay,
+                           Duration minDelay,
+                           double budgetRatio,
+                           int budgetMaxTokens) {
+    }
+}
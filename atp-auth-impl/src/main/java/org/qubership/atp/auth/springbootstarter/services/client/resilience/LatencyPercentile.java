@@ -0,0 +1,102 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Percentile of the last N latencies.
+ * Latencies are recorded into a ring; the percentile is recalculated every 'recalculateEvery' records,
+ * so reading it is cheap.
+ */
+public class LatencyPercentile {
+
+    /**
+     * Number of records between recalculations.
+     */
+    private static final int RECALCULATE_EVERY = 32;
+
+    /**
+     * Ring of latencies, in nanoseconds.
+     */
+    private final long[] latencies;
+
+    /**
+     * Percentile to calculate, from 0 to 1.
+     */
+    private final double percentile;
+
+    /**
+     * Next position in the ring.
+     */
+    private int position;
+
+    /**
+     * Number of recorded latencies, up to the ring size.
+     */
+    private int recorded;
+
+    /**
+     * Number of records since the last recalculation.
+     */
+    private int sinceRecalculation;
+
+    /**
+     * Last calculated percentile, in nanoseconds; -1 if not enough latencies are recorded yet.
+     */
+    private volatile long value = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param windowSize number of last latencies to keep
+     * @param percentile percentile to calculate, from 0 to 1.
+     */
+    public LatencyPercentile(final int windowSize, final double percentile) {
+        this.latencies = new long[windowSize];
+        this.percentile = percentile;
+    }
+
+    /**
+     * Record latency.
+     *
+     * @param nanos latency in nanoseconds.
+     */
+    public synchronized void record(final long nanos) {
+        latencies[position] = nanos;
+        position = (position + 1) % latencies.length;
+        if (recorded < latencies.length) {
+            recorded++;
+        }
+        if (++sinceRecalculation >= Math.min(RECALCULATE_EVERY, latencies.length)) {
+            sinceRecalculation = 0;
+            long[] sorted = Arrays.copyOf(latencies, recorded);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * recorded) - 1;
+            value = sorted[Math.max(0, Math.min(recorded - 1, index))];
+        }
+    }
+
+    /**
+     * Get the percentile.
+     *
+     * @return percentile in nanoseconds, or -1 if not enough latencies are recorded yet.
+     */
+    public long getNanos() {
+        return value;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.offheap;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.qubership.atp.auth.springbootstarter.collections.OffHeapUuidIntTable;
+import org.qubership.atp.auth.springbootstarter.collections.UuidIntMap;
+import org.qubership.atp.auth.springbootstarter.entities.Group;
+import org.qubership.atp.auth.springbootstarter.entities.Operations;
+import org.qubership.atp.auth.springbootstarter.entities.Permissions;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.entities.Role;
+import org.qubership.atp.auth.springbootstarter.services.ObjectPermissionsCacheKey;
+
+/**
+ * Off-heap store of project members and object permissions for very large projects.
+ * Members of a project are kept as one off-heap table from user UUID to bitmask of groups
+ * (bit of {@link Group#ordinal()}), object permissions as off-heap tables from user UUID to bitmask
+ * of operations per object name, all tables of an entry packed into one direct buffer.
+ * Role permissions of a project are small and stay on heap.
+ * Entries expire after 'ttl' and are then reloaded by the caller.
+ */
+public class OffHeapPermissionStore {
+
+    /**
+     * Members and role permissions by project.
+     */
+    private final Map<UUID, ProjectEntry> projects = new ConcurrentHashMap<>();
+
+    /**
+     * Object permissions by cache key.
+     */
+    private final Map<ObjectPermissionsCacheKey, ObjectsEntry> objects = new ConcurrentHashMap<>();
+
+    /**
+     * Time to keep entries, in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * Source of current time, in nanoseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Constructor.
+     *
+     * @param ttl time to keep entries
+     * @param clock source of current time, in nanoseconds.
+     */
+    public OffHeapPermissionStore(final Duration ttl, final LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Put project members and role permissions into the store.
+     *
+     * @param project Project object.
+     */
+    public void putProject(final Project project) {
+        UuidIntMap members = new UuidIntMap();
+        addMembers(members, project.getLeads(), Group.LEAD);
+        addMembers(members, project.getQaTaEngineers(), Group.ENGINEER);
+        addMembers(members, project.getDevOpsEngineers(), Group.DEVOPS);
+        addMembers(members, project.getAtpRunners(), Group.EXECUTOR);
+        addMembers(members, project.getAtpSupports(), Group.SUPPORT);
+        projects.put(project.getUuid(), new ProjectEntry(OffHeapUuidIntTable.copyOf(members),
+                project.getPermissions(), clock.getAsLong()));
+    }
+
+    /**
+     * Check if the store has actual entry of the project.
+     *
+     * @param projectId UUID of a project
+     * @return true if the project is in the store and not expired.
+     */
+    public boolean containsProject(final UUID projectId) {
+        return actual(projects, projectId) != null;
+    }
+
+    /**
+     * Get the most privileged group of the user in the project, the same way as
+     * {@link Project#getUserGroup(UUID, Set)} does.
+     *
+     * @param projectId UUID of a project
+     * @param userId UUID of a user
+     * @param userRoles Set of user role names
+     * @return Group of the user, or null if the project isn't in the store.
+     */
+    public Group getUserGroup(final UUID projectId, final UUID userId, final Set<String> userRoles) {
+        ProjectEntry entry = actual(projects, projectId);
+        if (entry == null) {
+            return null;
+        }
+        int groups = entry.members().get(userId, 0);
+        for (Group group : Group.values()) {
+            if ((group == Group.SUPPORT && isSupportRole(userRoles)) || (groups & 1 << group.ordinal()) != 0) {
+                return group;
+            }
+        }
+        return Group.DEFAULT;
+    }
+
+    /**
+     * Get role permissions of the project.
+     *
+     * @param projectId UUID of a project
+     * @return Permissions object, or null if the project isn't in the store.
+     */
+    public Permissions getPermissions(final UUID projectId) {
+        ProjectEntry entry = actual(projects, projectId);
+        return entry == null ? null : entry.permissions();
+    }
+
+    /**
+     * Put object permissions into the store.
+     *
+     * @param key key of the object permissions
+     * @param permissions Map of user permissions by object name.
+     */
+    public void putObjectPermissions(final ObjectPermissionsCacheKey key,
+                                     final Map<String, Map<UUID, Operations>> permissions) {
+        Map<String, UuidIntMap> masksByObject = HashMap.newHashMap(permissions.size());
+        permissions.forEach((objectName, users) -> {
+            UuidIntMap masks = new UuidIntMap(users == null ? 0 : users.size());
+            if (users != null) {
+                users.forEach((userId, operations) -> masks.put(userId, operations == null ? 0 : operations.toMask()));
+            }
+            masksByObject.put(objectName, masks);
+        });
+        objects.put(key, new ObjectsEntry(OffHeapUuidIntTable.copyOf(masksByObject), clock.getAsLong()));
+    }
+
+    /**
+     * Check if the store has actual object permissions for the key.
+     *
+     * @param key key of the object permissions
+     * @return true if the object permissions are in the store and not expired.
+     */
+    public boolean containsObjectPermissions(final ObjectPermissionsCacheKey key) {
+        return actual(objects, key) != null;
+    }
+
+    /**
+     * Get bitmask of operations available to the user against the object.
+     *
+     * @param key key of the object permissions
+     * @param objectName name of the object
+     * @param userId UUID of a user
+     * @return bitmask of operations, see {@link Operations#toMask()}; -1 if there is no explicit permission
+     *     of the user or the object permissions aren't in the store.
+     */
+    public int getOperationsMask(final ObjectPermissionsCacheKey key, final String objectName, final UUID userId) {
+        ObjectsEntry entry = actual(objects, key);
+        OffHeapUuidIntTable users = entry == null ? null : entry.tables().get(objectName);
+        return users == null ? -1 : users.get(userId, -1);
+    }
+
+    /**
+     * Remove all entries of the project.
+     *
+     * @param projectId UUID of a project.
+     */
+    public void removeProject(final UUID projectId) {
+        projects.remove(projectId);
+        objects.keySet().removeIf(key -> projectId.equals(key.projectId()));
+    }
+
+    /**
+     * Get off-heap footprint of the store, in bytes.
+     *
+     * @return footprint in bytes.
+     */
+    public long footprint() {
+        long footprint = 0;
+        for (ProjectEntry entry : projects.values()) {
+            footprint += entry.members().footprint();
+        }
+        for (ObjectsEntry entry : objects.values()) {
+            for (OffHeapUuidIntTable table : entry.tables().values()) {
+                footprint += table.footprint();
+            }
+        }
+        return footprint;
+    }
+
+    /**
+     * Get number of projects in the store.
+     *
+     * @return number of projects.
+     */
+    public int size() {
+        return projects.size();
+    }
+
+    private <K, V extends Expirable> V actual(final Map<K, V> entries, final K key) {
+        V entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.loadedAt() > ttlNanos) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private static void addMembers(final UuidIntMap members, final Set<UUID> userIds, final Group group) {
+        if (userIds != null) {
+            for (UUID userId : userIds) {
+                members.put(userId, members.get(userId, 0) | 1 << group.ordinal());
+            }
+        }
+    }
+
+    private static boolean isSupportRole(final Set<String> userRoles) {
+        return Role.ATP_SUPPORT.isSet(Role.toMask(userRoles));
+    }
+
+    /**
+     * Entry with load time.
+     */
+    private interface Expirable {
+
+        /**
+         * Get time the entry has been loaded at.
+         *
+         * @return time in nanoseconds.
+         */
+        long loadedAt();
+    }
+
+    /**
+     * Members and role permissions of a project.
+     *
+     * @param members table from user UUID to bitmask of groups
+     * @param permissions role permissions
+     * @param loadedAt time the entry has been loaded at, in nanoseconds.
+     */
+    private record ProjectEntry(OffHeapUuidIntTable members, Permissions permissions, long loadedAt)
+            implements Expirable {
+    }
+
+    /**
+     * Object permissions.
+     *
+     * @param tables tables from user UUID to bitmask of operations, by object name
+     * @param loadedAt time the entry has been loaded at, in nanoseconds.
+     */
+    private record ObjectsEntry(Map<String, OffHeapUuidIntTable> tables, long loadedAt) implements Expirable {
+    }
+}
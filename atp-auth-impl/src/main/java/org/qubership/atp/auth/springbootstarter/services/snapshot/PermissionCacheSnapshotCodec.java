@@ -0,0 +1,372 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+import org.qubership.atp.auth.springbootstarter.entities.Operations;
+import org.qubership.atp.auth.springbootstarter.entities.Permissions;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.services.ObjectPermissionsCacheKey;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Compact binary format of the permission caches snapshot.
+ * Layout: magic, version, creation time, number of projects, number of object permissions, entries,
+ * then HMAC-SHA256 of all preceding bytes.
+ * UUIDs are written as two longs, Operations as a bit mask, strings as length-prefixed UTF-8,
+ * absent sets and maps as length -1. The file is written to a temporary file (readable by the owner only)
+ * and moved atomically, and is read via memory-mapped buffer without intermediate copies.
+ * A file with a wrong signature is rejected, so the snapshot can't be forged without the signing key.
+ */
+@UtilityClass
+public class PermissionCacheSnapshotCodec {
+
+    /**
+     * Magic number of the snapshot file: "ATCS".
+     */
+    private static final int MAGIC = 0x41544353;
+
+    /**
+     * Version of the format.
+     */
+    private static final byte VERSION = 2;
+
+    /**
+     * Algorithm of the snapshot signature.
+     */
+    public static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    /**
+     * Length of the snapshot signature.
+     */
+    private static final int SIGNATURE_LENGTH = 32;
+
+    /**
+     * Write snapshot to the file.
+     *
+     * @param path path of the snapshot file
+     * @param snapshot snapshot to write
+     * @param signingKey key of the snapshot signature
+     * @throws IOException in case of write errors.
+     */
+    public static void write(final Path path, final Snapshot snapshot, final SecretKey signingKey)
+            throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            Mac mac = newMac(signingKey);
+            try (OutputStream file = Files.newOutputStream(temporary);
+                 DataOutputStream out = new DataOutputStream(
+                         new BufferedOutputStream(new MacOutputStream(file, mac), 64 * 1024))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeLong(snapshot.createdAt());
+                out.writeInt(snapshot.projects().size());
+                out.writeInt(snapshot.objectPermissions().size());
+                for (Map.Entry<UUID, Project> entry : snapshot.projects().entrySet()) {
+                    writeUuid(out, entry.getKey());
+                    writeProject(out, entry.getValue());
+                }
+                for (Map.Entry<ObjectPermissionsCacheKey, Map<String, Map<UUID, Operations>>> entry
+                        : snapshot.objectPermissions().entrySet()) {
+                    writeString(out, entry.getKey().entityName());
+                    writeUuid(out, entry.getKey().projectId());
+                    writeUuid(out, entry.getKey().objectId());
+                    writeObjectPermissions(out, entry.getValue());
+                }
+                out.flush();
+                file.write(mac.doFinal());
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Read snapshot from the file.
+     *
+     * @param path path of the snapshot file
+     * @param signingKey key of the snapshot signature
+     * @return Snapshot object
+     * @throws IOException in case of read errors, wrong format or wrong signature.
+     */
+    public static Snapshot read(final Path path, final SecretKey signingKey) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.remaining() < Integer.BYTES + 1 + SIGNATURE_LENGTH || in.getInt() != MAGIC
+                    || in.get() != VERSION) {
+                throw new IOException("Unsupported format of cache snapshot " + path);
+            }
+            verifySignature(in, signingKey, path);
+            long createdAt = in.getLong();
+            int projectCount = in.getInt();
+            int objectCount = in.getInt();
+            Map<UUID, Project> projects = HashMap.newHashMap(projectCount);
+            for (int i = 0; i < projectCount; i++) {
+                UUID projectId = readUuid(in);
+                projects.put(projectId, readProject(in, projectId));
+            }
+            Map<ObjectPermissionsCacheKey, Map<String, Map<UUID, Operations>>> objects =
+                    HashMap.newHashMap(objectCount);
+            for (int i = 0; i < objectCount; i++) {
+                ObjectPermissionsCacheKey key = new ObjectPermissionsCacheKey(readString(in), readUuid(in),
+                        readUuid(in));
+                objects.put(key, readObjectPermissions(in));
+            }
+            return new Snapshot(createdAt, projects, objects);
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new IOException("Cache snapshot " + path + " is corrupted", e);
+        }
+    }
+
+    private static void verifySignature(final ByteBuffer in, final SecretKey signingKey, final Path path)
+            throws IOException {
+        int signed = in.limit() - SIGNATURE_LENGTH;
+        Mac mac = newMac(signingKey);
+        mac.update(in.duplicate().position(0).limit(signed));
+        byte[] signature = new byte[SIGNATURE_LENGTH];
+        in.duplicate().position(signed).get(signature);
+        if (!MessageDigest.isEqual(mac.doFinal(), signature)) {
+            throw new IOException("Signature of cache snapshot " + path + " is wrong");
+        }
+        in.limit(signed);
+    }
+
+    private static Mac newMac(final SecretKey signingKey) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to create signature of cache snapshot", e);
+        }
+    }
+
+    private static void writeProject(final DataOutputStream out, final Project project) throws IOException {
+        writeUuids(out, project.getLeads());
+        writeUuids(out, project.getQaTaEngineers());
+        writeUuids(out, project.getDevOpsEngineers());
+        writeUuids(out, project.getAtpRunners());
+        writeUuids(out, project.getAtpSupports());
+        Permissions permissions = project.getPermissions();
+        out.writeBoolean(permissions != null);
+        if (permissions != null) {
+            writeOperations(out, permissions.getLeads());
+            writeOperations(out, permissions.getQaTaEngineers());
+            writeOperations(out, permissions.getDevOpsEngineers());
+            writeOperations(out, permissions.getAtpRunners());
+            writeOperations(out, permissions.getAtpSupports());
+        }
+    }
+
+    private static Project readProject(final ByteBuffer in, final UUID projectId) {
+        Project project = new Project();
+        project.setUuid(projectId);
+        project.setLeads(readUuids(in));
+        project.setQaTaEngineers(readUuids(in));
+        project.setDevOpsEngineers(readUuids(in));
+        project.setAtpRunners(readUuids(in));
+        project.setAtpSupports(readUuids(in));
+        if (in.get() != 0) {
+            Permissions permissions = new Permissions();
+            permissions.setLeads(readOperations(in));
+            permissions.setQaTaEngineers(readOperations(in));
+            permissions.setDevOpsEngineers(readOperations(in));
+            permissions.setAtpRunners(readOperations(in));
+            permissions.setAtpSupports(readOperations(in));
+            project.setPermissions(permissions);
+        }
+        return project;
+    }
+
+    private static void writeObjectPermissions(final DataOutputStream out,
+                                               final Map<String, Map<UUID, Operations>> permissions)
+            throws IOException {
+        if (permissions == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(permissions.size());
+        for (Map.Entry<String, Map<UUID, Operations>> object : permissions.entrySet()) {
+            writeString(out, object.getKey());
+            Map<UUID, Operations> users = object.getValue();
+            out.writeInt(users == null ? -1 : users.size());
+            if (users != null) {
+                for (Map.Entry<UUID, Operations> user : users.entrySet()) {
+                    writeUuid(out, user.getKey());
+                    out.writeInt(user.getValue() == null ? 0 : user.getValue().toMask());
+                }
+            }
+        }
+    }
+
+    private static Map<String, Map<UUID, Operations>> readObjectPermissions(final ByteBuffer in) {
+        int size = in.getInt();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Map<UUID, Operations>> permissions = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            String objectName = readString(in);
+            int usersSize = in.getInt();
+            Map<UUID, Operations> users = null;
+            if (usersSize >= 0) {
+                users = HashMap.newHashMap(usersSize);
+                for (int j = 0; j < usersSize; j++) {
+                    users.put(readUuid(in), Operations.fromMask(in.getInt()));
+                }
+            }
+            permissions.put(objectName, users);
+        }
+        return permissions;
+    }
+
+    private static void writeOperations(final DataOutputStream out, final Map<String, Operations> operations)
+            throws IOException {
+        if (operations == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(operations.size());
+        for (Map.Entry<String, Operations> entry : operations.entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue() == null ? 0 : entry.getValue().toMask());
+        }
+    }
+
+    private static Map<String, Operations> readOperations(final ByteBuffer in) {
+        int size = in.getInt();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Operations> operations = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            operations.put(readString(in), Operations.fromMask(in.getInt()));
+        }
+        return operations;
+    }
+
+    private static void writeUuids(final DataOutputStream out, final Set<UUID> uuids) throws IOException {
+        if (uuids == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(uuids.size());
+        for (UUID uuid : uuids) {
+            writeUuid(out, uuid);
+        }
+    }
+
+    private static Set<UUID> readUuids(final ByteBuffer in) {
+        int size = in.getInt();
+        if (size < 0) {
+            return null;
+        }
+        Set<UUID> uuids = HashSet.newHashSet(size);
+        for (int i = 0; i < size; i++) {
+            uuids.add(readUuid(in));
+        }
+        return uuids;
+    }
+
+    private static void writeUuid(final DataOutputStream out, final UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(final ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Output stream updating the signature with all written bytes.
+     */
+    private static final class MacOutputStream extends FilterOutputStream {
+
+        /**
+         * Signature of written bytes.
+         */
+        private final Mac mac;
+
+        private MacOutputStream(final OutputStream out, final Mac mac) {
+            super(out);
+            this.mac = mac;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            mac.update((byte) value);
+            out.write(value);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            mac.update(bytes, offset, length);
+            out.write(bytes, offset, length);
+        }
+    }
+
+    /**
+     * Content of the permission caches snapshot.
+     *
+     * @param createdAt time the snapshot has been created at, in milliseconds since epoch
+     * @param projects entries of the auth_projects cache
+     * @param objectPermissions entries of the auth_objects cache.
+     */
+    public record Snapshot(long createdAt,
+                           Map<UUID, Project> projects,
+                           Map<ObjectPermissionsCacheKey, Map<String, Map<UUID, Operations>>> objectPermissions) {
+    }
+}
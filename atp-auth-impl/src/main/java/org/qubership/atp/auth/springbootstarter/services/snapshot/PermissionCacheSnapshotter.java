@@ -0,0 +1,255 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.SecretKey;
+
+import org.qubership.atp.auth.springbootstarter.Constants;
+import org.qubership.atp.auth.springbootstarter.entities.Operations;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.services.ObjectPermissionsCacheKey;
+import org.qubership.atp.auth.springbootstarter.services.UsersService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a snapshot of the auth_projects and auth_objects caches on disk, so new pods start warm.
+ * On start the snapshot (if not older than 'maxAge' and signed with 'signingKey') is loaded into the caches,
+ * then every loaded entry is revalidated in background via the users service with bounded parallelism.
+ * While running, the snapshot is written every 'interval' and once more on stop.
+ * Only Caffeine and ConcurrentMap based caches can be enumerated, other caches are not written.
+ * Revalidation runs on separate threads, so the security context of a user isn't available there.
+ */
+@Slf4j
+public class PermissionCacheSnapshotter implements SmartLifecycle {
+
+    /**
+     * Lifecycle phase: caches are loaded before the web server starts accepting requests,
+     * and the last snapshot is written after it stops.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    /**
+     * Cache manager holding the permission caches.
+     */
+    private final CacheManager cacheManager;
+
+    /**
+     * Users service to revalidate loaded entries.
+     */
+    private final UsersService usersService;
+
+    /**
+     * Snapshot settings.
+     */
+    private final Settings settings;
+
+    /**
+     * Scheduler of periodic snapshots; null if not running.
+     */
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor.
+     *
+     * @param cacheManager cache manager holding the permission caches
+     * @param usersService users service to revalidate loaded entries
+     * @param settings snapshot settings.
+     */
+    public PermissionCacheSnapshotter(final CacheManager cacheManager,
+                                      final UsersService usersService,
+                                      final Settings settings) {
+        this.cacheManager = cacheManager;
+        this.usersService = usersService;
+        this.settings = settings;
+    }
+
+    @Override
+    public void start() {
+        PermissionCacheSnapshotCodec.Snapshot snapshot = load();
+        if (snapshot != null) {
+            Thread.ofVirtual().name("atp-auth-cache-revalidation").start(() -> revalidate(snapshot));
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable ->
+                Thread.ofPlatform().name("atp-auth-cache-snapshot").daemon().unstarted(runnable));
+        long intervalMillis = settings.interval().toMillis();
+        executor.scheduleWithFixedDelay(this::save, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+            save();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Load the snapshot into the caches; entries already cached are kept.
+     *
+     * @return loaded Snapshot object, or null if there is no actual snapshot.
+     */
+    public PermissionCacheSnapshotCodec.Snapshot load() {
+        Path path = settings.path();
+        if (!Files.isRegularFile(path)) {
+            log.info("Cache snapshot {} is not found, caches start empty", path);
+            return null;
+        }
+        PermissionCacheSnapshotCodec.Snapshot snapshot;
+        try {
+            snapshot = PermissionCacheSnapshotCodec.read(path, settings.signingKey());
+        } catch (IOException e) {
+            log.warn("Failed to read cache snapshot {}, caches start empty", path, e);
+            return null;
+        }
+        long age = System.currentTimeMillis() - snapshot.createdAt();
+        if (age > settings.maxAge().toMillis()) {
+            log.info("Cache snapshot {} is {} s old, it's ignored", path, TimeUnit.MILLISECONDS.toSeconds(age));
+            return null;
+        }
+        Cache projects = cacheManager.getCache(Constants.AUTH_PROJECTS_CACHE_NAME);
+        if (projects != null) {
+            snapshot.projects().forEach(projects::putIfAbsent);
+        }
+        Cache objects = cacheManager.getCache(Constants.AUTH_OBJECTS_CACHE_NAME);
+        if (objects != null) {
+            snapshot.objectPermissions().forEach(objects::putIfAbsent);
+        }
+        log.info("Cache snapshot {} is loaded: {} project(s), {} object permission(s)", path,
+                snapshot.projects().size(), snapshot.objectPermissions().size());
+        return snapshot;
+    }
+
+    /**
+     * Write the snapshot of the caches.
+     */
+    @SuppressWarnings("unchecked")
+    public void save() {
+        Map<UUID, Project> projects = new HashMap<>();
+        entries(Constants.AUTH_PROJECTS_CACHE_NAME).forEach((key, value) -> {
+            if (key instanceof UUID projectId && value instanceof Project project) {
+                projects.put(projectId, project);
+            }
+        });
+        Map<ObjectPermissionsCacheKey, Map<String, Map<UUID, Operations>>> objects = new HashMap<>();
+        entries(Constants.AUTH_OBJECTS_CACHE_NAME).forEach((key, value) -> {
+            if (key instanceof ObjectPermissionsCacheKey objectKey && value instanceof Map<?, ?> permissions) {
+                objects.put(objectKey, (Map<String, Map<UUID, Operations>>) permissions);
+            }
+        });
+        try {
+            PermissionCacheSnapshotCodec.write(settings.path(),
+                    new PermissionCacheSnapshotCodec.Snapshot(System.currentTimeMillis(), projects, objects),
+                    settings.signingKey());
+            log.debug("Cache snapshot {} is written: {} project(s), {} object permission(s)", settings.path(),
+                    projects.size(), objects.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write cache snapshot {}", settings.path(), e);
+        }
+    }
+
+    private Map<?, ?> entries(final String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Object nativeCache = cache == null ? null : cache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            return caffeineCache.asMap();
+        }
+        if (nativeCache instanceof Map<?, ?> map) {
+            return map;
+        }
+        if (nativeCache != null) {
+            log.debug("Cache {} of type {} can't be enumerated, it's not written to snapshot", cacheName,
+                    nativeCache.getClass().getName());
+        }
+        return Map.of();
+    }
+
+    private void revalidate(final PermissionCacheSnapshotCodec.Snapshot snapshot) {
+        AtomicInteger failed = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(settings.revalidationParallelism());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            snapshot.projects().keySet().forEach(projectId -> submit(executor, inFlight, failed,
+                    () -> usersService.refreshUsersByProject(projectId)));
+            snapshot.objectPermissions().keySet().forEach(key -> submit(executor, inFlight, failed,
+                    () -> usersService.refreshPermissionsByObjectId(key.entityName(), key.projectId(),
+                            key.objectId())));
+        }
+        log.info("Cache entries loaded from snapshot are revalidated: {} of {} failed", failed.get(),
+                snapshot.projects().size() + snapshot.objectPermissions().size());
+    }
+
+    private static void submit(final ExecutorService executor, final Semaphore inFlight,
+                               final AtomicInteger failed, final Runnable refresh) {
+        inFlight.acquireUninterruptibly();
+        executor.execute(() -> {
+            try {
+                refresh.run();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.debug("Failed to revalidate cache entry loaded from snapshot", e);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * Snapshot settings.
+     *
+     * @param path path of the snapshot file
+     * @param signingKey key of the snapshot signature
+     * @param interval interval between snapshots
+     * @param maxAge maximum age of the snapshot to be loaded
+     * @param revalidationParallelism maximum number of entries revalidated concurrently.
+     */
+    public record Settings(Path path,
+                           SecretKey signingKey,
+                           Duration interval,
+                           Duration maxAge,
+                           int revalidationParallelism) {
+    }
+}
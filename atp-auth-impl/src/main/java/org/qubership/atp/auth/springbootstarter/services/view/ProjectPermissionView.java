@@ -0,0 +1,131 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.view;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.springframework.kafka.listener.ConsumerAwareMessageListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local materialized view of project permissions, built from a log-compacted Kafka topic.
+ * Records are keyed by project UUID and hold the Project as JSON; a record with empty value (tombstone)
+ * removes the project. Every pod consumes the whole topic from the beginning, so lookups are served
+ * from memory without network calls. Catch-up lag is tracked per partition after each record.
+ */
+@Slf4j
+public class ProjectPermissionView implements ConsumerAwareMessageListener<UUID, String> {
+
+    /**
+     * Projects by UUID.
+     */
+    private final Map<UUID, Project> projects = new ConcurrentHashMap<>();
+
+    /**
+     * Last known lag by partition.
+     */
+    private final Map<TopicPartition, Long> lags = new ConcurrentHashMap<>();
+
+    /**
+     * Reader of Project JSON.
+     */
+    private final ObjectReader projectReader;
+
+    /**
+     * Constructor.
+     *
+     * @param objectMapper mapper to read Project JSON.
+     */
+    public ProjectPermissionView(final ObjectMapper objectMapper) {
+        this.projectReader = objectMapper.readerFor(Project.class);
+    }
+
+    @Override
+    public void onMessage(final ConsumerRecord<UUID, String> record, final Consumer<?, ?> consumer) {
+        apply(record.key(), record.value());
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        OptionalLong lag = consumer.currentLag(partition);
+        if (lag.isPresent()) {
+            lags.put(partition, lag.getAsLong());
+        }
+    }
+
+    /**
+     * Apply a record of the topic to the view.
+     *
+     * @param projectId UUID of a project
+     * @param json Project as JSON; null or empty to remove the project.
+     */
+    public void apply(final UUID projectId, final String json) {
+        if (projectId == null) {
+            log.warn("Project permission record without key is skipped");
+            return;
+        }
+        if (json == null || json.isEmpty()) {
+            projects.remove(projectId);
+            return;
+        }
+        try {
+            Project project = projectReader.readValue(json);
+            if (project.getUuid() == null) {
+                project.setUuid(projectId);
+            }
+            projects.put(projectId, project);
+        } catch (JsonProcessingException e) {
+            log.error("Project permission record of project {} can't be parsed, it's skipped", projectId, e);
+        }
+    }
+
+    /**
+     * Get project from the view.
+     *
+     * @param projectId UUID of a project
+     * @return Project object, or null if the view doesn't contain the project.
+     */
+    public Project get(final UUID projectId) {
+        return projects.get(projectId);
+    }
+
+    /**
+     * Get number of projects in the view.
+     *
+     * @return number of projects.
+     */
+    public int size() {
+        return projects.size();
+    }
+
+    /**
+     * Get total catch-up lag: number of records not consumed yet over all partitions.
+     *
+     * @return total lag; 0 until the first record is consumed.
+     */
+    public long getLag() {
+        return lags.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reports progress of permission caches warm-up; OUT_OF_SERVICE until warm-up completes
+ * or the application stops waiting for it after 'timeout', UP with progress details afterwards.
+ * So a slow warm-up doesn't keep the pod out of service longer than the configured timeout.
+ */
+@RequiredArgsConstructor
+public class PermissionCacheWarmUpHealthIndicator implements HealthIndicator {
+
+    /**
+     * Warmer of permission caches.
+     */
+    private final PermissionCacheWarmer warmer;
+
+    @Override
+    public Health health() {
+        PermissionCacheWarmer.Progress progress = warmer.getProgress();
+        Health.Builder builder = progress.state() == PermissionCacheWarmer.State.COMPLETED || warmer.isWaitOver()
+                ? Health.up()
+                : Health.outOfService();
+        return builder
+                .withDetail("state", progress.state())
+                .withDetail("background", progress.state() != PermissionCacheWarmer.State.COMPLETED
+                        && warmer.isWaitOver())
+                .withDetail("total", progress.total())
+                .withDetail("loaded", progress.loaded())
+                .withDetail("failed", progress.failed())
+                .build();
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.warmup;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.qubership.atp.auth.springbootstarter.security.oauth2.client.config.Oauth2FeignClientInterceptor;
+import org.qubership.atp.auth.springbootstarter.services.UsersService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Warms permission caches for hot projects at startup.
+ * Runs as an ApplicationRunner, so the application doesn't report readiness until warm-up completes
+ * or 'timeout' passes; in the latter case warm-up continues in background.
+ * The M2M token is obtained first, then users of each project are loaded into the auth_projects cache
+ * with bounded parallelism. The calls open pooled connections to the users service
+ * (and warm its own caches) too. Projects come from the settings and from {@link WarmUpProjectsProvider} beans.
+ */
+@Slf4j
+public class PermissionCacheWarmer implements ApplicationRunner {
+
+    /**
+     * State of warm-up.
+     */
+    public enum State {
+        NOT_STARTED, IN_PROGRESS, COMPLETED
+    }
+
+    /**
+     * Users service to load permissions via.
+     */
+    private final UsersService usersService;
+
+    /**
+     * Providers of hot projects.
+     */
+    private final List<WarmUpProjectsProvider> projectsProviders;
+
+    /**
+     * Interceptor to obtain M2M token via; null if M2M tokens are not used.
+     */
+    private final Oauth2FeignClientInterceptor oauth2FeignClientInterceptor;
+
+    /**
+     * Warm-up settings.
+     */
+    private final Settings settings;
+
+    /**
+     * Number of projects loaded.
+     */
+    private final AtomicInteger loaded = new AtomicInteger();
+
+    /**
+     * Number of projects failed to be loaded.
+     */
+    private final AtomicInteger failed = new AtomicInteger();
+
+    /**
+     * Number of projects to load.
+     */
+    private volatile int total;
+
+    /**
+     * Current state.
+     */
+    private volatile State state = State.NOT_STARTED;
+
+    /**
+     * Whether the application runner stopped waiting for warm-up (completed, failed or timed out).
+     */
+    private volatile boolean waitOver;
+
+    /**
+     * Constructor.
+     *
+     * @param usersService users service to load permissions via
+     * @param projectsProviders providers of hot projects
+     * @param oauth2FeignClientInterceptor interceptor to obtain M2M token via, may be null
+     * @param settings warm-up settings.
+     */
+    public PermissionCacheWarmer(final UsersService usersService,
+                                 final List<WarmUpProjectsProvider> projectsProviders,
+                                 final Oauth2FeignClientInterceptor oauth2FeignClientInterceptor,
+                                 final Settings settings) {
+        this.usersService = usersService;
+        this.projectsProviders = projectsProviders;
+        this.oauth2FeignClientInterceptor = oauth2FeignClientInterceptor;
+        this.settings = settings;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        CompletableFuture<Void> warmUp = CompletableFuture.runAsync(this::warmUp,
+                runnable -> Thread.ofVirtual().name("atp-auth-warm-up").start(runnable));
+        try {
+            warmUp.get(settings.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Warm-up of permission caches isn't completed in {}, it continues in background: {}",
+                    settings.timeout(), getProgress());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Warm-up of permission caches failed", e.getCause());
+        } finally {
+            waitOver = true;
+        }
+    }
+
+    /**
+     * Warm permission caches up.
+     */
+    public void warmUp() {
+        state = State.IN_PROGRESS;
+        long start = System.nanoTime();
+        try {
+            prefetchM2MToken();
+            Set<UUID> projectIds = collectProjectIds();
+            total = projectIds.size();
+            Semaphore inFlight = new Semaphore(settings.parallelism());
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (UUID projectId : projectIds) {
+                    inFlight.acquireUninterruptibly();
+                    executor.execute(() -> {
+                        try {
+                            load(projectId);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            }
+        } finally {
+            state = State.COMPLETED;
+        }
+        log.info("Warm-up of permission caches is completed in {} ms: {}",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), getProgress());
+    }
+
+    /**
+     * Get progress of warm-up.
+     *
+     * @return Progress object.
+     */
+    public Progress getProgress() {
+        return new Progress(state, total, loaded.get(), failed.get());
+    }
+
+    /**
+     * Check if the application runner stopped waiting for warm-up,
+     * i.e. the warm-up is completed or it continues in background after 'timeout'.
+     *
+     * @return true if startup isn't delayed by warm-up anymore.
+     */
+    public boolean isWaitOver() {
+        return waitOver;
+    }
+
+    private void prefetchM2MToken() {
+        if (oauth2FeignClientInterceptor == null) {
+            return;
+        }
+        try {
+            if (!oauth2FeignClientInterceptor.prefetchM2MToken()) {
+                log.warn("M2M token isn't obtained during warm-up");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to obtain M2M token during warm-up", e);
+        }
+    }
+
+    private Set<UUID> collectProjectIds() {
+        Set<UUID> projectIds = new LinkedHashSet<>(settings.projectIds());
+        for (WarmUpProjectsProvider provider : projectsProviders) {
+            try {
+                Collection<UUID> provided = provider.getProjectIds();
+                if (provided != null) {
+                    projectIds.addAll(provided);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to get projects to warm up from {}", provider.getClass().getName(), e);
+            }
+        }
+        return projectIds;
+    }
+
+    private void load(final UUID projectId) {
+        try {
+            usersService.getUsersByProject(projectId);
+            loaded.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("Failed to warm up permissions of project {}", projectId, e);
+        }
+    }
+
+    /**
+     * Progress of warm-up.
+     *
+     * @param state current state
+     * @param total number of projects to load
+     * @param loaded number of projects loaded
+     * @param failed number of projects failed to be loaded.
+     */
+    public record Progress(State state, int total, int loaded, int failed) {
+    }
+
+    /**
+     * Warm-up settings.
+     *
+     * @param projectIds IDs of projects to warm up
+     * @param parallelism maximum number of projects loaded concurrently
+     * @param timeout maximum time to delay readiness of the application.
+     */
+    public record Settings(Collection<UUID> projectIds,
+                           int parallelism,
+                           Duration timeout) {
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.warmup;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Source of hot projects to warm permission caches for at startup,
+ * in addition to the projects configured via 'atp-auth.warm-up.project-ids'.
+ */
+@FunctionalInterface
+public interface WarmUpProjectsProvider {
+
+    /**
+     * Get IDs of projects to warm up.
+     *
+     * @return collection of project UUIDs.
+     */
+    Collection<UUID> getProjectIds();
+}
@@ -0,0 +1,96 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.collections;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapUuidIntTableTest {
+
+    /**
+     * Test that off-heap copy contains the same entries as the source map.
+     */
+    @Test
+    public void copyOf_WhenMapHasManyEntries_ShouldKeepAllOfThem() {
+        UuidIntMap map = new UuidIntMap();
+        Map<UUID, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID key = UUID.randomUUID();
+            map.put(key, i);
+            expected.put(key, i);
+        }
+
+        OffHeapUuidIntTable table = OffHeapUuidIntTable.copyOf(map);
+
+        Assertions.assertEquals(expected.size(), table.size());
+        expected.forEach((key, value) -> Assertions.assertEquals(value, table.get(key, -1)));
+        Assertions.assertEquals(-1, table.get(UUID.randomUUID(), -1));
+        Assertions.assertFalse(table.containsKey(UUID.randomUUID()));
+        Map<UUID, Integer> actual = new HashMap<>();
+        table.forEach(actual::put);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertTrue(table.footprint() >= 24L * expected.size());
+    }
+
+    /**
+     * Test that maps packed into one buffer keep their own entries.
+     */
+    @Test
+    public void copyOf_WhenSeveralMapsPacked_ShouldKeepEntriesOfEachMap() {
+        Map<String, UuidIntMap> maps = new LinkedHashMap<>();
+        Map<String, Map<UUID, Integer>> expected = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            UuidIntMap map = new UuidIntMap();
+            Map<UUID, Integer> entries = new HashMap<>();
+            for (int j = 0; j < i * 100; j++) {
+                UUID key = UUID.randomUUID();
+                map.put(key, j);
+                entries.put(key, j);
+            }
+            maps.put("object" + i, map);
+            expected.put("object" + i, entries);
+        }
+
+        Map<String, OffHeapUuidIntTable> tables = OffHeapUuidIntTable.copyOf(maps);
+
+        Assertions.assertEquals(List.copyOf(maps.keySet()), List.copyOf(tables.keySet()));
+        tables.forEach((name, table) -> {
+            Map<UUID, Integer> actual = new HashMap<>();
+            table.forEach(actual::put);
+            Assertions.assertEquals(expected.get(name), actual);
+            expected.get(name).forEach((key, value) -> Assertions.assertEquals(value, table.get(key, -1)));
+            Assertions.assertEquals(-1, table.get(UUID.randomUUID(), -1));
+        });
+    }
+
+    /**
+     * Test that empty map is copied to empty table.
+     */
+    @Test
+    public void copyOf_WhenMapIsEmpty_ShouldCreateEmptyTable() {
+        OffHeapUuidIntTable table = OffHeapUuidIntTable.copyOf(new UuidIntMap(0));
+
+        Assertions.assertEquals(0, table.size());
+        Assertions.assertEquals(7, table.get(UUID.randomUUID(), 7));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.SerializationUtils;
+
+public class UuidSetTest {
+
+    /**
+     * Test that the set contains the same elements as the source collection.
+     */
+    @Test
+    public void copyOf_WhenCollectionHasManyElements_ShouldBeEqualToHashSet() {
+        Set<UUID> expected = new HashSet<>();
+        for (int i = 0; i < 5_000; i++) {
+            expected.add(UUID.randomUUID());
+        }
+        ArrayList<UUID> withDuplicates = new ArrayList<>(expected);
+        withDuplicates.addAll(expected);
+        withDuplicates.add(null);
+
+        UuidSet set = UuidSet.copyOf(withDuplicates);
+
+        Assertions.assertEquals(expected.size(), set.size());
+        Assertions.assertEquals(expected, set);
+        Assertions.assertEquals(set, expected);
+        Assertions.assertEquals(expected.hashCode(), set.hashCode());
+        expected.forEach(uuid -> Assertions.assertTrue(set.contains(uuid)));
+        Assertions.assertFalse(set.contains(UUID.randomUUID()));
+        Assertions.assertFalse(set.contains("not a uuid"));
+        Assertions.assertEquals(expected, new HashSet<>(set));
+    }
+
+    /**
+     * Test that the set can't be modified.
+     */
+    @Test
+    public void add_WhenCalled_ShouldThrowUnsupportedOperationException() {
+        UuidSet set = UuidSet.of(UUID.randomUUID());
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> set.add(UUID.randomUUID()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> set.removeAll(set));
+        Assertions.assertSame(set, UuidSet.copyOf(set));
+    }
+
+    /**
+     * Test that the set is serializable.
+     */
+    @Test
+    public void whenSerializing_ThenEqualSetIsRestored() {
+        UuidSet set = UuidSet.copyOf(Arrays.asList(UUID.randomUUID(), UUID.randomUUID(), new UUID(0, 0)));
+
+        Assertions.assertEquals(set, SerializationUtils.clone(set));
+        Assertions.assertTrue(set.contains(new UUID(0, 0)));
+        Assertions.assertEquals(0, UuidSet.copyOf(Set.of()).size());
+    }
+}
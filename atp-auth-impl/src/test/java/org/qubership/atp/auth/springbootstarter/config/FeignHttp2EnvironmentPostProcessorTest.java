@@ -0,0 +1,117 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public class FeignHttp2EnvironmentPostProcessorTest {
+
+    /**
+     * Context with OkHttpClient of OpenFeign and HTTP/2 turned on.
+     */
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class,
+                    FeignAutoConfiguration.class))
+            .withInitializer(context -> new FeignHttp2EnvironmentPostProcessor()
+                    .postProcessEnvironment(context.getEnvironment(), null))
+            .withPropertyValues("spring.cloud.openfeign.okhttp.enabled=true",
+                    "atp-auth.feign.http2.enabled=true",
+                    "spring.cloud.openfeign.httpclient.connection-timeout=1500",
+                    "spring.cloud.openfeign.httpclient.ok-http.read-timeout=7s");
+
+    /**
+     * Test that OpenFeign timeouts are kept, and HTTP/1.1 is negotiated with a cleartext HTTP/1.1 server.
+     */
+    @Test
+    public void okHttpClient_WhenHttp2Enabled_ShouldKeepOpenFeignTimeoutsAndFallBackToHttp11() {
+        contextRunner.run(context -> {
+            OkHttpClient client = context.getBean(OkHttpClient.class);
+
+            Assertions.assertEquals(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1), client.protocols());
+            Assertions.assertEquals(1500, client.connectTimeoutMillis());
+            Assertions.assertEquals(7000, client.readTimeoutMillis());
+            HttpServer server = startServer();
+            try (Response response = client.newCall(request("http://localhost:" + server.getAddress().getPort()))
+                    .execute()) {
+                Assertions.assertEquals(Protocol.HTTP_1_1, response.protocol());
+                Assertions.assertEquals("ok", response.body().string());
+            } finally {
+                server.stop(0);
+            }
+        });
+    }
+
+    /**
+     * Test that explicitly configured protocols take precedence.
+     */
+    @Test
+    public void okHttpClient_WhenProtocolsConfigured_ShouldKeepThem() {
+        contextRunner.withPropertyValues(FeignHttp2EnvironmentPostProcessor.PROTOCOLS_PROPERTY + "=HTTP_1_1")
+                .run(context -> Assertions.assertEquals(List.of(Protocol.HTTP_1_1),
+                        context.getBean(OkHttpClient.class).protocols()));
+    }
+
+    /**
+     * Test that prior knowledge mode uses h2c only and https requests fail.
+     */
+    @Test
+    public void okHttpClient_WhenPriorKnowledge_ShouldRejectHttps() {
+        contextRunner.withPropertyValues("atp-auth.feign.http2.prior-knowledge=true").run(context -> {
+            OkHttpClient client = context.getBean(OkHttpClient.class);
+
+            Assertions.assertEquals(List.of(Protocol.H2_PRIOR_KNOWLEDGE), client.protocols());
+            Assertions.assertEquals(7000, client.readTimeoutMillis());
+            IOException exception = Assertions.assertThrows(IOException.class,
+                    () -> client.newCall(request("https://localhost:1/api")).execute());
+            Assertions.assertTrue(exception.getMessage().contains("H2_PRIOR_KNOWLEDGE"), exception.getMessage());
+        });
+    }
+
+    private static Request request(final String url) {
+        return new Request.Builder().url(url).build();
+    }
+
+    private static HttpServer startServer() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+}
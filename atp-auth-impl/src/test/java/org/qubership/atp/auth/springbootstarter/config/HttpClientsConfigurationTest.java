@@ -0,0 +1,133 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.Configurable;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class HttpClientsConfigurationTest {
+
+    /**
+     * Context with the pooled http client.
+     */
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class))
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(HttpClientsConfiguration.class);
+
+    /**
+     * Test that default timeouts are the same as Apache HttpClient defaults, and the pool is enlarged.
+     */
+    @Test
+    public void sslHttpClient_WhenNotConfigured_ShouldKeepHttpClientDefaultTimeouts() {
+        contextRunner.run(context -> {
+            HttpClient client = context.getBean(HttpClient.class);
+            RequestConfig config = ((Configurable) client).getConfig();
+            PoolingHttpClientConnectionManager connectionManager = connectionManager(client);
+
+            Assertions.assertEquals(Timeout.ofMinutes(3), config.getResponseTimeout());
+            Assertions.assertEquals(Timeout.ofMinutes(3), config.getConnectionRequestTimeout());
+            Assertions.assertEquals(TimeValue.ofMinutes(3), config.getConnectionKeepAlive());
+            Assertions.assertEquals(200, connectionManager.getMaxTotal());
+            Assertions.assertEquals(50, connectionManager.getDefaultMaxPerRoute());
+        });
+    }
+
+    /**
+     * Test that configured pool sizes and timeouts are applied, and pool metrics are registered.
+     */
+    @Test
+    public void sslHttpClient_WhenConfigured_ShouldApplyPoolSettingsAndRegisterMetrics() {
+        contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues("atp-auth.http.max-total=20",
+                        "atp-auth.http.max-per-route=4",
+                        "atp-auth.http.response-timeout=15s",
+                        "atp-auth.http.connection-request-timeout=2s")
+                .run(context -> {
+                    HttpClient client = context.getBean(HttpClient.class);
+                    RequestConfig config = ((Configurable) client).getConfig();
+                    PoolingHttpClientConnectionManager connectionManager = connectionManager(client);
+
+                    Assertions.assertEquals(Timeout.ofSeconds(15), config.getResponseTimeout());
+                    Assertions.assertEquals(Timeout.ofSeconds(2), config.getConnectionRequestTimeout());
+                    Assertions.assertEquals(20, connectionManager.getMaxTotal());
+                    Assertions.assertEquals(4, connectionManager.getDefaultMaxPerRoute());
+                    Assertions.assertEquals(20, context.getBean(MeterRegistry.class)
+                            .get("httpcomponents.httpclient.pool.total.max")
+                            .tag("httpclient", "atp-auth-ssl-http-client")
+                            .gauge()
+                            .value());
+                });
+    }
+
+    /**
+     * Test that response timeout is applied to requests.
+     *
+     * @throws Exception in case server errors.
+     */
+    @Test
+    public void sslHttpClient_WhenServerRespondsSlowerThanResponseTimeout_ShouldFail() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            try {
+                TimeUnit.SECONDS.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            contextRunner.withPropertyValues("atp-auth.http.response-timeout=200ms").run(context -> {
+                HttpClient client = context.getBean(HttpClient.class);
+                HttpGet request = new HttpGet("http://localhost:" + server.getAddress().getPort() + "/");
+
+                Assertions.assertThrows(SocketTimeoutException.class,
+                        () -> client.execute(request, response -> response.getCode()));
+            });
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static PoolingHttpClientConnectionManager connectionManager(final HttpClient client) {
+        return (PoolingHttpClientConnectionManager) ReflectionTestUtils.getField(client, "connManager");
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.serialization.UUIDSerializer;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.services.view.ProjectPermissionView;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class KafkaConfigTest {
+
+    /**
+     * Topic of project permission records.
+     */
+    private static final String TOPIC = "project_permissions";
+
+    /**
+     * Number of partitions of the topic, more than one to check that all of them are read.
+     */
+    private static final int PARTITIONS = 3;
+
+    /**
+     * Embedded Kafka broker.
+     */
+    private static EmbeddedKafkaBroker broker;
+
+    @BeforeAll
+    public static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    public static void stopBroker() {
+        broker.destroy();
+    }
+
+    /**
+     * Test that records of all partitions of the topic are consumed into the local view.
+     */
+    @Test
+    public void projectPermissionView_WhenRecordsInAllPartitions_ShouldContainAllProjects() throws Exception {
+        List<UUID> projectIds = IntStream.range(0, PARTITIONS).mapToObj(partition -> UUID.randomUUID()).toList();
+        KafkaTemplate<UUID, String> template = kafkaTemplate();
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            template.send(TOPIC, partition, projectIds.get(partition), "{\"leads\":[]}").get(10, TimeUnit.SECONDS);
+        }
+        template.destroy();
+
+        contextRunner().run(context -> {
+            ProjectPermissionView view = context.getBean(ProjectPermissionView.class);
+            Awaitility.await().atMost(Duration.ofSeconds(30)).until(() -> view.size() == PARTITIONS);
+            projectIds.forEach(projectId -> Assertions.assertNotNull(view.get(projectId)));
+        });
+    }
+
+    /**
+     * Test that start fails if the topic isn't found, instead of reading nothing.
+     */
+    @Test
+    public void projectPermissionViewContainer_WhenTopicMissing_ShouldFailStart() {
+        contextRunner().withPropertyValues("kafka.project.permissions.topic=missing_topic").run(context -> {
+            Assertions.assertNotNull(context.getStartupFailure());
+            Throwable cause = context.getStartupFailure();
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            Assertions.assertInstanceOf(IllegalStateException.class, cause);
+            Assertions.assertTrue(cause.getMessage().contains("missing_topic"));
+        });
+    }
+
+    private static ApplicationContextRunner contextRunner() {
+        return new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class))
+                .withUserConfiguration(KafkaConfig.class)
+                .withBean("feignClientObjectMapper", ObjectMapper.class, ObjectMapper::new)
+                .withPropertyValues("kafka.enable=true",
+                        "kafka.project.permissions.view.enable=true",
+                        "kafka.service.entities.topic=service_entities",
+                        "spring.kafka.producer.bootstrap-servers=" + broker.getBrokersAsString());
+    }
+
+    private static KafkaTemplate<UUID, String> kafkaTemplate() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, UUIDSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import reactor.netty.resources.ConnectionProvider;
+
+public class ReactiveHttpClientsConfigurationTest {
+
+    /**
+     * Context with the relay connection pool.
+     */
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class))
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(ReactiveHttpClientsConfiguration.class);
+
+    /**
+     * Test that the dedicated pool is created with default settings.
+     */
+    @Test
+    public void relayConnectionProvider_WhenNotConfigured_ShouldUseDefaults() {
+        contextRunner.run(context -> {
+            ConnectionProvider provider = context.getBean("relayConnectionProvider", ConnectionProvider.class);
+
+            Assertions.assertEquals("atp-auth-relay", provider.name());
+            Assertions.assertEquals(100, provider.maxConnections());
+            Assertions.assertEquals("fifo", poolSetting(provider, "leasingStrategy"));
+            Assertions.assertEquals(Duration.ofSeconds(45).toMillis(), poolSetting(provider, "pendingAcquireTimeout"));
+        });
+    }
+
+    /**
+     * Test that configured pool settings are applied, and the leasing strategy is case-insensitive.
+     */
+    @Test
+    public void relayConnectionProvider_WhenConfigured_ShouldApplySettings() {
+        contextRunner.withPropertyValues("atp-auth.webclient.pool.max-connections=10",
+                        "atp-auth.webclient.pool.pending-acquire-max-count=20",
+                        "atp-auth.webclient.pool.max-idle-time=5s",
+                        "atp-auth.webclient.pool.leasing-strategy=LIFO")
+                .run(context -> {
+                    ConnectionProvider provider = context.getBean("relayConnectionProvider",
+                            ConnectionProvider.class);
+
+                    Assertions.assertEquals(10, provider.maxConnections());
+                    Assertions.assertEquals(20, poolSetting(provider, "pendingAcquireMaxCount"));
+                    Assertions.assertEquals(Duration.ofSeconds(5).toMillis(), poolSetting(provider, "maxIdleTime"));
+                    Assertions.assertEquals("lifo", poolSetting(provider, "leasingStrategy"));
+                });
+    }
+
+    /**
+     * Test that unknown leasing strategy fails startup instead of falling back to fifo.
+     */
+    @Test
+    public void relayConnectionProvider_WhenLeasingStrategyUnknown_ShouldFailStartup() {
+        contextRunner.withPropertyValues("atp-auth.webclient.pool.leasing-strategy=lru").run(context -> {
+            Throwable cause = context.getStartupFailure();
+            Assertions.assertNotNull(cause);
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            Assertions.assertInstanceOf(IllegalStateException.class, cause);
+            Assertions.assertTrue(cause.getMessage().contains("'lru'"));
+        });
+    }
+
+    private static Object poolSetting(final ConnectionProvider provider, final String name) {
+        return ReflectionTestUtils.getField(ReflectionTestUtils.getField(provider, "defaultPoolFactory"), name);
+    }
+}
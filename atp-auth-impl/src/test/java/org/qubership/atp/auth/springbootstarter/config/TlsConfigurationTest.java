@@ -0,0 +1,67 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import java.time.Duration;
+
+import javax.net.ssl.SSLContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+
+public class TlsConfigurationTest {
+
+    /**
+     * Test that client session cache of the shared SSLContext is configured.
+     *
+     * @throws Exception in case SSLContext creation errors.
+     */
+    @Test
+    public void ignoreVerifySslContext_ShouldConfigureClientSessionCache() throws Exception {
+        TlsConfiguration tlsConfiguration = new TlsConfiguration();
+        ReflectionTestUtils.setField(tlsConfiguration, "sessionCacheSize", 500);
+        ReflectionTestUtils.setField(tlsConfiguration, "sessionTimeout", Duration.ofHours(2));
+
+        SSLContext sslContext = tlsConfiguration.ignoreVerifySslContext();
+
+        Assertions.assertEquals(500, sslContext.getClientSessionContext().getSessionCacheSize());
+        Assertions.assertEquals(7200, sslContext.getClientSessionContext().getSessionTimeout());
+    }
+
+    /**
+     * Test that reactive client reuses the SSLContext of blocking client (and, so, its TLS sessions cache).
+     *
+     * @throws Exception in case SSLContext creation errors.
+     */
+    @Test
+    public void reactiveIgnoreVerifySslContext_ShouldShareSslContextWithBlockingClient() throws Exception {
+        TlsConfiguration tlsConfiguration = new TlsConfiguration();
+        ReflectionTestUtils.setField(tlsConfiguration, "sessionCacheSize", 100);
+        ReflectionTestUtils.setField(tlsConfiguration, "sessionTimeout", Duration.ofMinutes(10));
+        SSLContext sslContext = tlsConfiguration.ignoreVerifySslContext();
+
+        SslContext reactiveSslContext =
+                new ReactiveHttpClientsConfiguration().reactiveIgnoreVerifySslContext(sslContext);
+
+        Assertions.assertTrue(reactiveSslContext.isClient());
+        Assertions.assertSame(sslContext, ((JdkSslContext) reactiveSslContext).context());
+    }
+}
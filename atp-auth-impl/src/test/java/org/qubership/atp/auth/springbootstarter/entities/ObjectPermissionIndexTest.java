@@ -0,0 +1,81 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.entities;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ObjectPermissionIndexTest {
+
+    /**
+     * Mapper to serialize/deserialize permissions.
+     */
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Test that the index deserialized in streaming mode equals to the map deserialized by Jackson.
+     */
+    @Test
+    public void deserialize_WhenPermissionsMapJson_ShouldBuildEquivalentIndex() throws Exception {
+        Map<String, Map<UUID, Operations>> permissions = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            Map<UUID, Operations> users = new HashMap<>();
+            for (int j = 0; j < 30; j++) {
+                users.put(UUID.randomUUID(), Operations.fromMask((i * 31 + j) & 0x7F));
+            }
+            permissions.put("object-" + i, users);
+        }
+        String json = mapper.writeValueAsString(permissions);
+
+        ObjectPermissionIndex index = mapper.readValue(json, ObjectPermissionIndex.class);
+
+        Assertions.assertEquals(permissions.size(), index.size());
+        Assertions.assertEquals(permissions, index.toMap());
+    }
+
+    /**
+     * Test of operation checks against the index.
+     */
+    @Test
+    public void isOperationAvailable_WhenUserHasReadOnly_ShouldDenyUpdate() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String json = "{\"object\":{\"" + userId + "\":{\"read\":true,\"update\":false,\"extra\":[1,2]}}}";
+
+        ObjectPermissionIndex index = mapper.readValue(json, ObjectPermissionIndex.class);
+
+        Assertions.assertTrue(index.isOperationAvailable("object", userId, Operation.READ));
+        Assertions.assertFalse(index.isOperationAvailable("object", userId, Operation.UPDATE));
+        Assertions.assertFalse(index.isOperationAvailable("object", UUID.randomUUID(), Operation.READ));
+        Assertions.assertTrue(index.containsUser("object", userId));
+    }
+
+    /**
+     * Test that invalid user identifier is rejected.
+     */
+    @Test
+    public void deserialize_WhenUserIdIsNotUuid_ShouldThrowException() {
+        Assertions.assertThrows(JsonMappingException.class,
+                () -> mapper.readValue("{\"object\":{\"admin\":{\"read\":true}}}", ObjectPermissionIndex.class));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.entities;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OperationTest {
+
+    /**
+     * Test that operations are resolved by name in any case, the same way as by valueOf.
+     */
+    @Test
+    public void parse_WhenNameInAnyCase_ShouldReturnOperation() {
+        for (Operation operation : Operation.values()) {
+            String name = operation.name();
+            String lowerCase = name.toLowerCase(Locale.ROOT);
+            Assertions.assertSame(operation, Operation.parse(name));
+            Assertions.assertSame(operation, Operation.parse(lowerCase));
+            Assertions.assertSame(operation, Operation.parse(name.charAt(0) + lowerCase.substring(1)));
+        }
+    }
+
+    /**
+     * Test that unknown names are rejected as by valueOf.
+     */
+    @Test
+    public void parse_WhenNameUnknown_ShouldThrowIllegalArgumentException() {
+        for (String name : new String[] {"", "REA", "READS", "RAED", "UPLOCK", "UNDATE", "EXECUTA", "CREATE "}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Operation.parse(name), name);
+        }
+    }
+}
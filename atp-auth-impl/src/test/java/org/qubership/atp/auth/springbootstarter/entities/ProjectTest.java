@@ -17,14 +17,19 @@
 package org.qubership.atp.auth.springbootstarter.entities;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.collections.UuidSet;
 import org.springframework.util.SerializationUtils;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class ProjectTest implements Serializable {
 
     /**
@@ -53,4 +58,67 @@ public class ProjectTest implements Serializable {
         Assertions.assertEquals(p1.getPermissions(), p2.getPermissions());
     }
 
+    /**
+     * Test that members are serialized as HashSet and read back as compact sets.
+     */
+    @Test
+    public void whenSerializing_ThenMembersAreWrittenAsHashSet() {
+        UUID lead = UUID.randomUUID();
+        Project project = new Project();
+        project.setUuid(UUID.randomUUID());
+        project.setLeads(Set.of(lead));
+
+        byte[] bytes = SerializationUtils.serialize(project);
+        String stream = new String(bytes, StandardCharsets.ISO_8859_1);
+        Project deserialized = SerializationUtils.clone(project);
+
+        Assertions.assertTrue(stream.contains(HashSet.class.getName()));
+        Assertions.assertFalse(stream.contains(UuidSet.class.getName()));
+        Assertions.assertInstanceOf(UuidSet.class, deserialized.getLeads());
+        Assertions.assertEquals(project, deserialized);
+        Assertions.assertEquals(Group.LEAD, deserialized.getUserGroup(lead, Set.of()));
+    }
+
+    /**
+     * Test that group members are kept as compact sets while JSON contract stays the same.
+     */
+    @Test
+    public void whenDeserializingFromJson_ThenMembersAreCompactSets() throws Exception {
+        UUID lead = UUID.randomUUID();
+        UUID runner = UUID.randomUUID();
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = "{\"uuid\":\"%s\",\"leads\":[\"%s\"],\"atpRunners\":[\"%s\"]}"
+                .formatted(UUID.randomUUID(), lead, runner);
+
+        Project project = objectMapper.readValue(json, Project.class);
+
+        Assertions.assertInstanceOf(UuidSet.class, project.getLeads());
+        Assertions.assertEquals(Set.of(lead), project.getLeads());
+        Assertions.assertNull(project.getQaTaEngineers());
+        Assertions.assertEquals(Group.LEAD, project.getUserGroup(lead, Set.of()));
+        Assertions.assertEquals(Group.EXECUTOR, project.getUserGroup(runner, Set.of()));
+        Assertions.assertEquals(project, objectMapper.readValue(objectMapper.writeValueAsString(project),
+                Project.class));
+    }
+
+    /**
+     * Test that group resolved by role mask is the same as by role names.
+     */
+    @Test
+    public void whenGettingUserGroupByRoleMask_ThenSameGroupAsByRoleNames() {
+        UUID runner = UUID.randomUUID();
+        Project project = new Project();
+        project.setAtpRunners(Set.of(runner));
+        Set<String> roles = Set.of("atp_support", "ATP_ADMIN", "OTHER");
+        int roleMask = Role.toMask(roles);
+
+        Assertions.assertTrue(Role.ATP_SUPPORT.isSet(roleMask));
+        Assertions.assertTrue(Role.ATP_ADMIN.isSet(roleMask));
+        Assertions.assertFalse(Role.ATP_EXTERNAL.isSet(roleMask));
+        Assertions.assertEquals(Group.EXECUTOR, project.getUserGroup(runner, roleMask));
+        Assertions.assertEquals(Group.SUPPORT, project.getUserGroup(UUID.randomUUID(), roleMask));
+        Assertions.assertEquals(project.getUserGroup(UUID.randomUUID(), roles),
+                project.getUserGroup(UUID.randomUUID(), roleMask));
+        Assertions.assertEquals(Group.DEFAULT, project.getUserGroup(UUID.randomUUID(), 0));
+    }
 }
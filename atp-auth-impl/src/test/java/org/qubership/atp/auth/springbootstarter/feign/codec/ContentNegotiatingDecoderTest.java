@@ -0,0 +1,135 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Util;
+
+public class ContentNegotiatingDecoderTest {
+
+    /**
+     * Mapper for JSON bodies.
+     */
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Test that gzip compressed JSON body is decompressed and decoded.
+     */
+    @Test
+    public void decode_WhenBodyIsGzipCompressedJson_ShouldDecodeProject() throws IOException {
+        Project project = createProject();
+        Response response = createResponse(gzip(mapper.writeValueAsBytes(project)), Map.of(
+                "Content-Type", List.of("application/json"),
+                "Content-Encoding", List.of("gzip")));
+
+        Object actual = new ContentNegotiatingDecoder(mapper, BinaryFormat.SMILE).decode(response, Project.class);
+
+        Assertions.assertEquals(project, actual);
+    }
+
+    /**
+     * Test that Smile body is decoded when the server replies with Smile.
+     */
+    @Test
+    public void decode_WhenBodyIsSmile_ShouldDecodeProject() throws IOException {
+        Project project = createProject();
+        byte[] smile = mapper.copyWith(new SmileFactory()).writeValueAsBytes(project);
+        Response response = createResponse(smile, Map.of("Content-Type", List.of("application/x-jackson-smile")));
+
+        Object actual = new ContentNegotiatingDecoder(mapper, BinaryFormat.SMILE).decode(response, Project.class);
+
+        Assertions.assertEquals(project, actual);
+    }
+
+    /**
+     * Test that String body is decoded with the charset of the response Content-Type.
+     */
+    @Test
+    public void decode_WhenStringBodyHasCharset_ShouldDecodeWithResponseCharset() throws IOException {
+        String text = "Gr\u00fc\u00dfe";
+        Response response = createResponse(text.getBytes(StandardCharsets.ISO_8859_1),
+                Map.of("Content-Type", List.of("text/plain; charset=ISO-8859-1")));
+
+        Object actual = new ContentNegotiatingDecoder(mapper, BinaryFormat.NONE).decode(response, String.class);
+
+        Assertions.assertEquals(text, actual);
+    }
+
+    /**
+     * Test that large request body is compressed and negotiation headers are added.
+     */
+    @Test
+    public void apply_WhenBodyExceedsMinSize_ShouldCompressBody() throws IOException {
+        byte[] body = "x".repeat(4096).getBytes(StandardCharsets.UTF_8);
+        RequestTemplate template = new RequestTemplate();
+        template.body(body, StandardCharsets.UTF_8);
+
+        new ContentEncodingRequestInterceptor(true, true, 2048, BinaryFormat.CBOR).apply(template);
+
+        Assertions.assertEquals(List.of("gzip"), List.copyOf(template.headers().get(Util.CONTENT_ENCODING)));
+        Assertions.assertTrue(template.headers().get("Accept").iterator().next().startsWith("application/cbor"));
+        Assertions.assertArrayEquals(body, new GZIPInputStream(new ByteArrayInputStream(template.body()))
+                .readAllBytes());
+    }
+
+    private static Project createProject() {
+        Project project = new Project();
+        project.setUuid(UUID.randomUUID());
+        project.setLeads(Set.of(UUID.randomUUID(), UUID.randomUUID()));
+        project.setQaTaEngineers(Set.of(UUID.randomUUID()));
+        return project;
+    }
+
+    private static Response createResponse(final byte[] body, final Map<String, Collection<String>> headers) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/users/projects",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(headers)
+                .body(body)
+                .build();
+    }
+
+    private static byte[] gzip(final byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -104,5 +105,42 @@ public class FeignClientExceptionErrorDecoderClass {
         FeignClientException actual = feignClientExceptionErrorDecoder.decode(methodKey, response);
         Assertions.assertEquals(bodyString, actual.getErrorMessage());
         Assertions.assertEquals(code, actual.getStatus());
+        Assertions.assertEquals("Failed to find Project with id: c9645d45-466e-412f-9082-5148023c9689",
+                actual.getErrorDetails().message());
+        Assertions.assertEquals("ATP-0001", actual.getErrorDetails().reason());
+    }
+
+    /**
+     * Test that huge non-JSON body is truncated to the limit.
+     */
+    @Test
+    public void decode_WhenBodyExceedsLimit_ShouldTruncateBody() {
+        String bodyString = "<html><body>" + "Internal error. ".repeat(100_000) + "</body></html>";
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/users/projects",
+                new HashMap<>(), null, StandardCharsets.UTF_8, null);
+        Response response = Response.builder()
+                .status(HttpStatus.SC_BAD_GATEWAY)
+                .request(request)
+                .headers(new HashMap<>())
+                .body(bodyString, StandardCharsets.UTF_8)
+                .build();
+
+        FeignClientException actual = new FeignClientExceptionErrorDecoder(1024).decode("", response);
+
+        Assertions.assertEquals(bodyString.substring(0, 1024), actual.getErrorMessage());
+        Assertions.assertEquals(HttpStatus.SC_BAD_GATEWAY, actual.getStatus());
+        Assertions.assertNull(actual.getErrorDetails().message());
+        Assertions.assertNull(actual.getErrorDetails().reason());
+    }
+
+    /**
+     * Test that too large Retry-After delay doesn't overflow, but means the call is never retried in time.
+     */
+    @Test
+    public void parseRetryAfter_WhenDelayOverflows_ShouldReturnMaxValue() {
+        Assertions.assertEquals(Long.MAX_VALUE, FeignClientExceptionErrorDecoder.parseRetryAfter("9223372036854775"));
+        Assertions.assertEquals(Long.MAX_VALUE,
+                FeignClientExceptionErrorDecoder.parseRetryAfter("99999999999999999999"));
+        Assertions.assertTrue(FeignClientExceptionErrorDecoder.parseRetryAfter("120") > System.currentTimeMillis());
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.logging;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import feign.Request;
+import feign.Response;
+
+public class SamplingFeignLoggerTest {
+
+    /**
+     * Test that not sampled successful call is neither logged nor rebuffered.
+     */
+    @Test
+    public void logAndRebufferResponse_WhenNotSampled_ShouldReturnSameResponse() throws IOException {
+        Logger logger = mock(Logger.class);
+        when(logger.isDebugEnabled()).thenReturn(true);
+        when(logger.isWarnEnabled()).thenReturn(true);
+        Response response = createResponse(200, "{}");
+
+        Response actual = new SamplingFeignLogger(logger, 0, true, 16)
+                .logAndRebufferResponse("UsersFeignClient#getUsersByProject(UUID)", feign.Logger.Level.FULL,
+                        response, 10);
+
+        Assertions.assertSame(response, actual);
+        verify(logger, never()).debug(anyString());
+        verify(logger, never()).warn(anyString());
+    }
+
+    /**
+     * Test that failed call is logged with truncated body, while the whole body is still readable.
+     */
+    @Test
+    public void logAndRebufferResponse_WhenFailed_ShouldLogAndKeepWholeBody() throws IOException {
+        Logger logger = mock(Logger.class);
+        when(logger.isWarnEnabled()).thenReturn(true);
+        String body = "{\"message\":\"" + "x".repeat(100) + "\"}";
+
+        Response actual = new SamplingFeignLogger(logger, 0, true, 16)
+                .logAndRebufferResponse("UsersFeignClient#getUsersByProject(UUID)", feign.Logger.Level.FULL,
+                        createResponse(500, body), 10);
+
+        verify(logger, atLeastOnce()).warn(anyString());
+        Assertions.assertEquals(body, new String(actual.body().asInputStream().readAllBytes(),
+                StandardCharsets.UTF_8));
+    }
+
+    private static Response createResponse(final int status, final String body) {
+        Map<String, Collection<String>> headers = Map.of("Authorization", List.of("Bearer token"));
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/users/projects",
+                headers, null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(status)
+                .request(request)
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
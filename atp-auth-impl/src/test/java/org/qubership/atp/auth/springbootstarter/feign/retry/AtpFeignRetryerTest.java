@@ -0,0 +1,142 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.feign.exception.FeignClientException;
+
+import feign.Request;
+import feign.RequestTemplate;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AtpFeignRetryerTest {
+
+    /**
+     * Retry settings without delays.
+     */
+    private final AtpFeignRetryer.Policy policy = new AtpFeignRetryer.Policy(3, Duration.ZERO, Duration.ZERO,
+            Duration.ofSeconds(1), Set.of(502, 503));
+
+    /**
+     * Meter registry.
+     */
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Test that client errors aren't retried.
+     */
+    @Test
+    public void continueOrPropagate_WhenNotFound_ShouldPropagate() {
+        AtpFeignRetryer retryer = createRetryer(new RetryBudgets(0.1, 10, meterRegistry));
+        FeignClientException exception = createException(Request.HttpMethod.GET, 404);
+
+        Assertions.assertSame(exception,
+                Assertions.assertThrows(RetryableException.class, () -> retryer.continueOrPropagate(exception)));
+    }
+
+    /**
+     * Test that non-idempotent requests aren't retried even with retryable status.
+     */
+    @Test
+    public void continueOrPropagate_WhenPostRequest_ShouldPropagate() {
+        AtpFeignRetryer retryer = createRetryer(new RetryBudgets(0.1, 10, meterRegistry));
+
+        Assertions.assertThrows(RetryableException.class,
+                () -> retryer.continueOrPropagate(createException(Request.HttpMethod.POST, 503)));
+    }
+
+    /**
+     * Test that idempotent requests are retried up to max attempts.
+     */
+    @Test
+    public void continueOrPropagate_WhenServiceUnavailable_ShouldRetryUpToMaxAttempts() {
+        AtpFeignRetryer retryer = createRetryer(new RetryBudgets(0.1, 10, meterRegistry));
+        FeignClientException exception = createException(Request.HttpMethod.GET, 503);
+
+        Assertions.assertDoesNotThrow(() -> retryer.continueOrPropagate(exception));
+        Assertions.assertDoesNotThrow(() -> retryer.continueOrPropagate(exception));
+        Assertions.assertThrows(RetryableException.class, () -> retryer.continueOrPropagate(exception));
+        Assertions.assertEquals(2, meterRegistry.get("atp.auth.feign.retry").tag("result", "retried")
+                .counter().count());
+    }
+
+    /**
+     * Test that retries stop when the budget is exhausted.
+     */
+    @Test
+    public void continueOrPropagate_WhenBudgetExhausted_ShouldPropagate() {
+        RetryBudgets budgets = new RetryBudgets(0.1, 1, meterRegistry);
+        FeignClientException exception = createException(Request.HttpMethod.GET, 502);
+
+        Assertions.assertDoesNotThrow(() -> createRetryer(budgets).continueOrPropagate(exception));
+        Assertions.assertThrows(RetryableException.class,
+                () -> createRetryer(budgets).continueOrPropagate(exception));
+    }
+
+    /**
+     * Test that budget is replenished by requests: 10 requests deposit 1 token with 0.1 ratio.
+     */
+    @Test
+    public void deposit_WhenRatioIsTenPercent_ShouldAllowOneRetryPerTenRequests() {
+        RetryBudget budget = new RetryBudget(0.1, 5);
+        while (budget.tryWithdraw()) {
+            // drain the initial tokens
+        }
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+
+        Assertions.assertTrue(budget.tryWithdraw());
+        Assertions.assertFalse(budget.tryWithdraw());
+    }
+
+    /**
+     * Test that budget is replenished by calls only: deposits of retried attempts are withdrawn with the retry.
+     */
+    @Test
+    public void continueOrPropagate_WhenRetried_ShouldNotReplenishBudgetByRetriedAttempt() {
+        RetryBudgets budgets = new RetryBudgets(0.5, 10, meterRegistry);
+        RetryBudget budget = budgets.budgetFor("default");
+        FeignClientException exception = createException(Request.HttpMethod.GET, 503);
+        AtpFeignRetryer retryer = createRetryer(budgets);
+        RequestTemplate template = new RequestTemplate();
+
+        budgets.apply(template);
+        Assertions.assertDoesNotThrow(() -> retryer.continueOrPropagate(exception));
+        budgets.apply(template);
+
+        Assertions.assertEquals(9, budget.getTokens(), 1e-9);
+        Assertions.assertTrue(template.headers().isEmpty());
+    }
+
+    private AtpFeignRetryer createRetryer(final RetryBudgets budgets) {
+        return new AtpFeignRetryer(policy, budgets, meterRegistry);
+    }
+
+    private static FeignClientException createException(final Request.HttpMethod method, final int status) {
+        Request request = Request.create(method, "http://localhost/api/v1/users/projects",
+                new HashMap<>(), null, StandardCharsets.UTF_8, null);
+        return new FeignClientException(status, "error", method, new HashMap<>(), request);
+    }
+}
@@ -21,10 +21,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
 import org.junit.jupiter.api.Test;
 import org.qubership.atp.auth.springbootstarter.exceptions.AtpException;
+import org.qubership.atp.auth.springbootstarter.feign.exception.FeignClientException;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +38,7 @@ import org.springframework.validation.MapBindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
 import jakarta.persistence.EntityNotFoundException;
 
 public class GlobalExceptionHandlerTest {
@@ -95,6 +98,57 @@ public class GlobalExceptionHandlerTest {
         assertNotNull(errorResponse.timestamp);
     }
 
+    /**
+     * Test FeignClientException with error details parsed by the error decoder.
+     * @throws Exception - in case processing exceptions in the GlobalExceptionHandler.
+     */
+    @Test
+    public void testHandleFeignClientExceptionWithErrorDetails() throws Exception {
+        Request feignRequest = Request.create(Request.HttpMethod.GET,
+                "http://localhost/api/v1/users/projects/c9645d45-466e-412f-9082-5148023c9689",
+                new HashMap<>(), null, StandardCharsets.UTF_8, null);
+        FeignClientException exception = new FeignClientException(HttpStatus.NOT_FOUND.value(), "not a JSON",
+                Request.HttpMethod.GET, new HashMap<>(), feignRequest,
+                new FeignClientException.ErrorDetails("Failed to find Project", "ATP-0001"));
+
+        ResponseEntity<ErrorResponse> responseEntity =
+                globalExceptionHandler.commonHandler(exception, new MockHttpServletRequest());
+
+        ErrorResponse errorResponse = responseEntity.getBody();
+        assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+        assertNotNull(errorResponse);
+        assertEquals("/api/v1/users/projects/c9645d45-466e-412f-9082-5148023c9689", errorResponse.path);
+        assertEquals("Failed to find Project", errorResponse.message);
+        assertEquals("ATP-0001", errorResponse.reason);
+    }
+
+    /**
+     * Test FeignClientException without message in the error body: the raw body isn't returned.
+     * @throws Exception - in case processing exceptions in the GlobalExceptionHandler.
+     */
+    @Test
+    public void testHandleFeignClientExceptionWithoutMessage() throws Exception {
+        Request feignRequest = Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/users/projects",
+                new HashMap<>(), null, StandardCharsets.UTF_8, null);
+        FeignClientException withDetails = new FeignClientException(HttpStatus.BAD_GATEWAY.value(),
+                "<html>Proxy error</html>", Request.HttpMethod.GET, new HashMap<>(), feignRequest,
+                new FeignClientException.ErrorDetails(null, null));
+        FeignClientException withoutDetails = new FeignClientException(HttpStatus.BAD_GATEWAY.value(),
+                "{\"error\":\"stack trace\"}", Request.HttpMethod.GET, new HashMap<>(), feignRequest, null);
+
+        ErrorResponse first = globalExceptionHandler.commonHandler(withDetails, new MockHttpServletRequest())
+                .getBody();
+        ErrorResponse second = globalExceptionHandler.commonHandler(withoutDetails, new MockHttpServletRequest())
+                .getBody();
+
+        assertNotNull(first);
+        assertEquals(HttpStatus.BAD_GATEWAY.getReasonPhrase(), first.message);
+        assertEquals("", first.reason);
+        assertNotNull(second);
+        assertEquals(HttpStatus.BAD_GATEWAY.getReasonPhrase(), second.message);
+        assertEquals("", second.reason);
+    }
+
     private ErrorResponse fillAndCheckResponse() throws Exception {
         Exception exception = new EntityNotFoundException("EntityNotFound");
         MockHttpServletRequest request = new MockHttpServletRequest();
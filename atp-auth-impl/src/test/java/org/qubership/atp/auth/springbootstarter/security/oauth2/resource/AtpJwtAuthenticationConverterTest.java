@@ -0,0 +1,85 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.security.oauth2.resource;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Role;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public class AtpJwtAuthenticationConverterTest {
+
+    /**
+     * Converter under test.
+     */
+    private final AtpJwtAuthenticationConverter converter =
+            new AtpJwtAuthenticationConverter("realm_access.roles", "preferred_username");
+
+    /**
+     * Test that realm roles are converted into authorities and role mask.
+     */
+    @Test
+    public void convert_WhenRealmRolesPresent_ShouldSetRoleMask() {
+        Jwt jwt = jwt(Map.of("roles", List.of("atp_admin", "ATP_SUPPORT", "offline_access")));
+
+        AtpJwtAuthenticationToken token = (AtpJwtAuthenticationToken) converter.convert(jwt);
+
+        Assertions.assertTrue(token.hasRole(Role.ATP_ADMIN));
+        Assertions.assertTrue(token.hasRole(Role.ATP_SUPPORT));
+        Assertions.assertFalse(token.hasRole(Role.ATP_EXTERNAL));
+        Assertions.assertEquals("user", token.getName());
+        Assertions.assertTrue(token.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList()
+                .containsAll(List.of("SCOPE_openid", "atp_admin", "ATP_SUPPORT", "offline_access")));
+        Assertions.assertEquals(token.getRoleMask(), AtpJwtAuthenticationToken.getRoleMask(token));
+    }
+
+    /**
+     * Test that missing roles claim gives empty role mask.
+     */
+    @Test
+    public void convert_WhenRolesClaimMissing_ShouldSetEmptyRoleMask() {
+        AtpJwtAuthenticationToken token = (AtpJwtAuthenticationToken) converter.convert(jwt(Map.of()));
+
+        Assertions.assertEquals(0, token.getRoleMask());
+    }
+
+    /**
+     * Test that role mask of other authentications is computed from authorities.
+     */
+    @Test
+    public void getRoleMask_WhenOtherAuthentication_ShouldUseAuthorities() {
+        Assertions.assertEquals(Role.ATP_EXTERNAL.getMask(), AtpJwtAuthenticationToken.getRoleMask(
+                new TestingAuthenticationToken("user", null, "ATP_EXTERNAL", "USER")));
+        Assertions.assertEquals(0, AtpJwtAuthenticationToken.getRoleMask(null));
+    }
+
+    private static Jwt jwt(final Map<String, Object> realmAccess) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject("00000000-0000-0000-0000-000000000001")
+                .claim("preferred_username", "user")
+                .claim("scope", "openid")
+                .claim("realm_access", realmAccess)
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.security.oauth2.resource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Role;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CachingJwtAuthenticationConverterTest {
+
+    /**
+     * Current time.
+     */
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    /**
+     * Meter registry.
+     */
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Converter resolving tokens.
+     */
+    private final AtpJwtAuthenticationConverter delegate =
+            spy(new AtpJwtAuthenticationConverter("realm_access.roles", "sub"));
+
+    /**
+     * Converter under test.
+     */
+    private final CachingJwtAuthenticationConverter converter = new CachingJwtAuthenticationConverter(delegate,
+            new CachingJwtAuthenticationConverter.Settings(100, Duration.ofHours(1)), meterRegistry,
+            Clock.fixed(NOW, ZoneOffset.UTC));
+
+    /**
+     * Test that repeated token is resolved once, but a new authentication is created per conversion.
+     */
+    @Test
+    public void convert_WhenTokenRepeated_ShouldResolveOnce() {
+        UUID userId = UUID.randomUUID();
+        Jwt jwt = jwt(userId, NOW.plusSeconds(300));
+
+        AtpJwtAuthenticationToken first = (AtpJwtAuthenticationToken) converter.convert(jwt);
+        AtpJwtAuthenticationToken second = (AtpJwtAuthenticationToken) converter.convert(jwt);
+
+        verify(delegate, times(1)).resolve(any());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(first.getAuthorities(), second.getAuthorities());
+        Assertions.assertEquals(userId, second.getUserId());
+        Assertions.assertTrue(second.hasRole(Role.ATP_ADMIN));
+        Assertions.assertEquals(1, converter.size());
+        Assertions.assertEquals(1, meterRegistry.get("cache.gets")
+                .tag("cache", CachingJwtAuthenticationConverter.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count());
+    }
+
+    /**
+     * Test that expired token isn't cached.
+     */
+    @Test
+    public void convert_WhenTokenExpired_ShouldNotCache() {
+        Jwt jwt = jwt(UUID.randomUUID(), NOW.minusSeconds(1));
+
+        converter.convert(jwt);
+        converter.convert(jwt);
+
+        verify(delegate, times(2)).resolve(any());
+        Assertions.assertEquals(0, converter.size());
+    }
+
+    /**
+     * Test that tokens are keyed by digest of the token value without raw token.
+     */
+    @Test
+    public void cacheKey_WhenTokenConverted_ShouldNotContainTokenValue() {
+        Jwt jwt = jwt(UUID.randomUUID(), NOW.plusSeconds(300));
+
+        String digestKey = CachingJwtAuthenticationConverter.cacheKey(jwt);
+
+        Assertions.assertTrue(digestKey.matches("sha256:[0-9a-f]{64}"));
+        Assertions.assertFalse(digestKey.contains(jwt.getTokenValue()));
+        Assertions.assertEquals(digestKey, CachingJwtAuthenticationConverter.cacheKey(jwt));
+    }
+
+    /**
+     * Test that tokens of different issuers sharing the same 'jti' are resolved separately.
+     */
+    @Test
+    public void convert_WhenTokensShareJti_ShouldResolveEachOfThem() {
+        UUID firstUserId = UUID.randomUUID();
+        UUID secondUserId = UUID.randomUUID();
+        Jwt first = withIssuerAndJti(jwt(firstUserId, NOW.plusSeconds(300)), "https://first.issuer");
+        Jwt second = withIssuerAndJti(jwt(secondUserId, NOW.plusSeconds(300)), "https://second.issuer");
+
+        AtpJwtAuthenticationToken firstToken = (AtpJwtAuthenticationToken) converter.convert(first);
+        AtpJwtAuthenticationToken secondToken = (AtpJwtAuthenticationToken) converter.convert(second);
+
+        verify(delegate, times(2)).resolve(any());
+        Assertions.assertEquals(firstUserId, firstToken.getUserId());
+        Assertions.assertEquals(secondUserId, secondToken.getUserId());
+        Assertions.assertEquals(2, converter.size());
+    }
+
+    private static Jwt withIssuerAndJti(final Jwt jwt, final String issuer) {
+        return Jwt.withTokenValue(jwt.getTokenValue())
+                .headers(headers -> headers.putAll(jwt.getHeaders()))
+                .claims(claims -> claims.putAll(jwt.getClaims()))
+                .issuer(issuer)
+                .jti("token-id")
+                .build();
+    }
+
+    private static Jwt jwt(final UUID userId, final Instant expiresAt) {
+        return Jwt.withTokenValue("token-" + userId)
+                .header("alg", "none")
+                .subject(userId.toString())
+                .issuedAt(NOW.minusSeconds(60))
+                .expiresAt(expiresAt)
+                .claim("realm_access", Map.of("roles", List.of("ATP_ADMIN")))
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.security.permissions;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Operation;
+
+public class AtpAuthorizeAuthorizationManagerTest {
+
+    /**
+     * Policy enforcement called by the manager.
+     */
+    private final PolicyEnforcement policyEnforcement = mock(PolicyEnforcement.class);
+
+    /**
+     * Manager under test.
+     */
+    private final AtpAuthorizeAuthorizationManager manager = new AtpAuthorizeAuthorizationManager(
+            () -> policyEnforcement);
+
+    /**
+     * Test that String project id is parsed and checked against the project.
+     */
+    @Test
+    public void check_WhenProjectIsString_ShouldCheckProjectAccess() throws NoSuchMethodException {
+        UUID projectId = UUID.randomUUID();
+        when(policyEnforcement.checkAccess(projectId, Operation.READ)).thenReturn(true);
+        MethodInvocation invocation = invocation(Controller.class.getMethod("get", String.class, String.class),
+                "name", projectId.toString());
+
+        Assertions.assertTrue(manager.check(() -> null, invocation).isGranted());
+        Assertions.assertTrue(manager.check(() -> null, invocation).isGranted());
+        verify(policyEnforcement, times(2)).checkAccess(projectId, Operation.READ);
+    }
+
+    /**
+     * Test that UUID project id is checked against the entity.
+     */
+    @Test
+    public void check_WhenEntitySet_ShouldCheckEntityAccess() throws NoSuchMethodException {
+        UUID projectId = UUID.randomUUID();
+        when(policyEnforcement.checkAccess("Defect", projectId, Operation.DELETE)).thenReturn(false);
+
+        Assertions.assertFalse(manager.check(() -> null,
+                invocation(Controller.class.getMethod("delete", UUID.class), projectId)).isGranted());
+        verify(policyEnforcement).checkAccess("Defect", projectId, Operation.DELETE);
+    }
+
+    /**
+     * Test that collection of project ids is checked as a set.
+     */
+    @Test
+    public void check_WhenProjectsAreCollection_ShouldCheckAccessToSet() throws NoSuchMethodException {
+        List<UUID> projectIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(policyEnforcement.checkAccess(Set.copyOf(projectIds), "EXECUTE")).thenReturn(true);
+
+        Assertions.assertTrue(manager.check(() -> null,
+                invocation(Controller.class.getMethod("execute", List.class), projectIds)).isGranted());
+    }
+
+    /**
+     * Test that unknown parameter name is reported.
+     */
+    @Test
+    public void check_WhenParameterNotFound_ShouldThrowIllegalStateException() throws NoSuchMethodException {
+        MethodInvocation invocation = invocation(Controller.class.getMethod("unknown", UUID.class),
+                UUID.randomUUID());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> manager.check(() -> null, invocation));
+    }
+
+    /**
+     * Test that methods of beans are resolved at startup, including interface methods of the bean.
+     */
+    @Test
+    public void postProcessAfterInitialization_WhenBeanAnnotated_ShouldResolveInterfaceMethods()
+            throws NoSuchMethodException {
+        UUID projectId = UUID.randomUUID();
+        when(policyEnforcement.checkAccess(projectId, Operation.UPDATE)).thenReturn(true);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(Updater.class.getMethod("update", UUID.class));
+        when(invocation.getArguments()).thenReturn(new Object[] {projectId});
+
+        manager.postProcessAfterInitialization(new UpdaterImpl(), "updater");
+
+        Assertions.assertTrue(manager.check(() -> null, invocation).isGranted());
+    }
+
+    /**
+     * Test that wrong annotation fails at startup.
+     */
+    @Test
+    public void postProcessAfterInitialization_WhenParameterNotFound_ShouldThrowIllegalStateException() {
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> manager.postProcessAfterInitialization(new Controller(), "controller"));
+    }
+
+    private static MethodInvocation invocation(final Method method, final Object... arguments) {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method);
+        when(invocation.getArguments()).thenReturn(arguments);
+        when(invocation.getThis()).thenReturn(new Controller());
+        return invocation;
+    }
+
+    /**
+     * Sample of annotated methods.
+     */
+    public static class Controller {
+
+        /**
+         * Method checking READ access to the project.
+         *
+         * @param name any name
+         * @param projectUuid String project id.
+         */
+        @AtpAuthorize(project = "projectUuid", operation = Operation.READ)
+        public void get(final String name, final String projectUuid) {
+        }
+
+        /**
+         * Method checking DELETE access to the entity.
+         *
+         * @param projectId UUID of a project.
+         */
+        @AtpAuthorize(project = "projectId", operation = Operation.DELETE, entity = "Defect")
+        public void delete(final UUID projectId) {
+        }
+
+        /**
+         * Method checking EXECUTE access to the projects.
+         *
+         * @param projectIds List of project UUIDs.
+         */
+        @AtpAuthorize(project = "projectIds", operation = Operation.EXECUTE)
+        public void execute(final List<UUID> projectIds) {
+        }
+
+        /**
+         * Method with wrong parameter name.
+         *
+         * @param projectId UUID of a project.
+         */
+        @AtpAuthorize(project = "projectUuid", operation = Operation.READ)
+        public void unknown(final UUID projectId) {
+        }
+    }
+
+    /**
+     * Interface of a bean invoked through JDK proxy.
+     */
+    public interface Updater {
+
+        /**
+         * Update the project.
+         *
+         * @param projectId UUID of a project.
+         */
+        void update(UUID projectId);
+    }
+
+    /**
+     * Implementation annotated with AtpAuthorize.
+     */
+    public static class UpdaterImpl implements Updater {
+
+        @Override
+        @AtpAuthorize(project = "projectId", operation = Operation.UPDATE)
+        public void update(final UUID projectId) {
+        }
+    }
+}
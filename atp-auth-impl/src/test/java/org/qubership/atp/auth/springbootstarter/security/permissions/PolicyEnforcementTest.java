@@ -0,0 +1,68 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.security.permissions;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Operation;
+
+public class PolicyEnforcementTest {
+
+    /**
+     * Policy enforcement with real default methods.
+     */
+    private final PolicyEnforcement policyEnforcement = mock(PolicyEnforcement.class, CALLS_REAL_METHODS);
+
+    /**
+     * Test that actions are resolved ignoring case.
+     */
+    @Test
+    public void checkAccess_WhenActionInLowerCase_ShouldResolveOperation() {
+        UUID projectId = UUID.randomUUID();
+
+        policyEnforcement.checkAccess("entity", projectId, "read");
+
+        verify(policyEnforcement).checkAccess("entity", projectId, Operation.READ);
+    }
+
+    /**
+     * Test that operation names of object checks stay case-sensitive.
+     */
+    @Test
+    public void checkAccess_WhenObjectOperationNotInUpperCase_ShouldThrowIllegalArgumentException() {
+        UUID projectId = UUID.randomUUID();
+        UUID objectId = UUID.randomUUID();
+
+        policyEnforcement.checkAccess("entity", projectId, objectId, "READ");
+        policyEnforcement.checkAccess("entity", projectId, Set.of(objectId), "UPDATE");
+
+        verify(policyEnforcement).checkAccess("entity", projectId, objectId, Operation.READ);
+        verify(policyEnforcement).checkAccess("entity", projectId, Set.of(objectId), Operation.UPDATE);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> policyEnforcement.checkAccess("entity", projectId, objectId, "read"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> policyEnforcement.checkAccess("entity", projectId, Set.of(objectId), "Update"));
+    }
+}
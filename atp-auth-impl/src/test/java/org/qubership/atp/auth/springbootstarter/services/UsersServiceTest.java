@@ -0,0 +1,170 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.Constants;
+import org.qubership.atp.auth.springbootstarter.entities.Group;
+import org.qubership.atp.auth.springbootstarter.entities.Operation;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.services.bulk.BulkOperationResult;
+import org.qubership.atp.auth.springbootstarter.services.client.UsersFeignClient;
+import org.qubership.atp.auth.springbootstarter.services.view.ProjectPermissionView;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class UsersServiceTest {
+
+    /**
+     * Cache manager holding the permission caches.
+     */
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+            Constants.AUTH_PROJECTS_CACHE_NAME, Constants.AUTH_OBJECTS_CACHE_NAME);
+
+    /**
+     * Test that projects loaded for groups of the user are cached and groups are returned in input order.
+     */
+    @Test
+    public void getUserGroups_WhenProjectsLoaded_ShouldCacheThemAndKeepInputOrder() {
+        UsersService usersService = usersService();
+        Set<UUID> projectIds = new LinkedHashSet<>();
+        IntStream.range(0, 20).forEach(i -> projectIds.add(UUID.randomUUID()));
+
+        Map<UUID, Group> groups = usersService.getUserGroups(UUID.randomUUID(), Set.of(), projectIds);
+
+        Assertions.assertEquals(List.copyOf(projectIds), List.copyOf(groups.keySet()));
+        projectIds.forEach(projectId -> Assertions.assertNotNull(
+                cacheManager.getCache(Constants.AUTH_PROJECTS_CACHE_NAME).get(projectId, Project.class)));
+    }
+
+    /**
+     * Test that projects found in the auth_projects cache aren't requested.
+     */
+    @Test
+    public void checkAccess_WhenProjectsCached_ShouldNotRequestThem() {
+        UsersService usersService = usersService();
+        UUID projectId = UUID.randomUUID();
+        Project project = new Project();
+        project.setUuid(projectId);
+        cacheManager.getCache(Constants.AUTH_PROJECTS_CACHE_NAME).put(projectId, project);
+
+        boolean permitted = usersService.checkAccess(UUID.randomUUID(), Set.of(), Set.of(projectId), "entity",
+                Operation.READ);
+
+        Assertions.assertFalse(permitted);
+        verify(usersService, never()).getUsersByProjects(anyList());
+    }
+
+    /**
+     * Test that the group of the user is taken from the auth_projects cache without the store.
+     */
+    @Test
+    public void getUserGroup_WhenProjectCached_ShouldTakeItFromCache() {
+        UsersService usersService = usersService();
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Project project = new Project();
+        project.setUuid(projectId);
+        project.setLeads(Set.of(userId));
+        cacheManager.getCache(Constants.AUTH_PROJECTS_CACHE_NAME).put(projectId, project);
+
+        Assertions.assertEquals(Group.LEAD, usersService.getUserGroup(projectId, userId, Set.of()));
+    }
+
+    /**
+     * Test that object permissions are loaded once and then taken from the auth_objects cache without the store.
+     */
+    @Test
+    public void getObjectOperations_WhenCalledTwice_ShouldLoadPermissionsOnce() {
+        UsersService usersService = usersService();
+        UUID projectId = UUID.randomUUID();
+        UUID objectId = UUID.randomUUID();
+
+        usersService.getObjectOperations("entity", projectId, objectId, UUID.randomUUID());
+        usersService.getObjectOperations("entity", projectId, objectId, UUID.randomUUID());
+
+        verify(usersService, times(1)).getPermissionsByObjectId("entity", projectId, objectId);
+        Assertions.assertNotNull(cacheManager.getCache(Constants.AUTH_OBJECTS_CACHE_NAME)
+                .get(new SimpleKey("entity", projectId, objectId)));
+    }
+
+    /**
+     * Test that only projects of the local permission view bypass the auth_projects cache.
+     */
+    @Test
+    public void isInPermissionView_WhenViewEnabled_ShouldBeTrueOnlyForProjectsOfView() {
+        UsersService usersService = usersService();
+        ProjectPermissionView view = new ProjectPermissionView(new ObjectMapper());
+        UUID projectId = UUID.randomUUID();
+        view.apply(projectId, "{\"leads\":[]}");
+        ReflectionTestUtils.setField(usersService, "projectPermissionView", view);
+
+        Assertions.assertTrue(usersService.isInPermissionView(projectId));
+        Assertions.assertFalse(usersService.isInPermissionView(UUID.randomUUID()));
+        Assertions.assertSame(view.get(projectId), usersService.getUsersByProject(projectId));
+    }
+
+    /**
+     * Test that bulk deletion is split into chunks by the executor created once per service.
+     */
+    @Test
+    public void deleteObjectPermissionsBulkWithResult_WhenManyObjects_ShouldProcessAllChunks() {
+        UsersService usersService = usersService();
+        List<UUID> objectIds = IntStream.range(0, 7).mapToObj(i -> UUID.randomUUID()).toList();
+
+        usersService.deleteObjectPermissionsBulk("entity", UUID.randomUUID(), objectIds);
+        BulkOperationResult<UUID> result = usersService.deleteObjectPermissionsBulkWithResult("entity",
+                UUID.randomUUID(), objectIds);
+
+        Assertions.assertEquals(7, result.getSucceeded());
+        Assertions.assertTrue(result.isSuccessful());
+        verify(usersService, times(2)).deleteObjectPermissionsBulkWithResult(eq("entity"), any(UUID.class),
+                eq(objectIds), any());
+    }
+
+    private UsersService usersService() {
+        UsersService usersService = new UsersService(mock(UsersFeignClient.class), null);
+        ReflectionTestUtils.setField(usersService, "projectBatchSize", 5);
+        ReflectionTestUtils.setField(usersService, "projectBatchParallelism", 2);
+        ReflectionTestUtils.setField(usersService, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(usersService, "bulkChunkSize", 3);
+        ReflectionTestUtils.setField(usersService, "bulkParallelism", 2);
+        usersService.initBulkExecutor();
+        return spy(usersService);
+    }
+}
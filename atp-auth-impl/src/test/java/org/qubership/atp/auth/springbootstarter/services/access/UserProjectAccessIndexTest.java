@@ -0,0 +1,135 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.services.access;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Group;
+import org.qubership.atp.auth.springbootstarter.entities.Permissions;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+
+public class UserProjectAccessIndexTest {
+
+    /**
+     * Current time of the index, in nanoseconds.
+     */
+    private final AtomicLong now = new AtomicLong();
+
+    /**
+     * Index under test.
+     */
+    private final UserProjectAccessIndex index = new UserProjectAccessIndex(Duration.ofMinutes(5), now::get);
+
+    /**
+     * Test that user group is resolved the same way as by Project.
+     */
+    @Test
+    public void getUserGroup_WhenProjectIndexed_ShouldReturnSameGroupAsProject() {
+        UUID lead = UUID.randomUUID();
+        UUID engineerAndRunner = UUID.randomUUID();
+        UUID support = UUID.randomUUID();
+        Project project = project(Set.of(lead), Set.of(engineerAndRunner), Set.of(engineerAndRunner), Set.of(support));
+
+        index.putProject(project);
+
+        for (UUID userId : Set.of(lead, engineerAndRunner, support, UUID.randomUUID())) {
+            Assertions.assertEquals(project.getUserGroup(userId, Set.of()),
+                    index.getUserGroup(userId, project.getUuid(), Set.of()));
+        }
+        Assertions.assertEquals(Group.SUPPORT, index.getUserGroup(UUID.randomUUID(), project.getUuid(),
+                Set.of("ATP_SUPPORT")));
+        Assertions.assertNull(index.getUserGroup(lead, UUID.randomUUID(), Set.of()));
+        Assertions.assertSame(project.getPermissions(), index.getPermissions(project.getUuid()));
+    }
+
+    /**
+     * Test that users removed from the reloaded project lose access to it.
+     */
+    @Test
+    public void putProject_WhenMemberRemoved_ShouldRemoveProjectFromUser() {
+        UUID userId = UUID.randomUUID();
+        Project project = project(Set.of(userId), Set.of(), Set.of(), Set.of());
+        index.putProject(project);
+        index.putUserProjects(userId, List.of(project));
+        Assertions.assertEquals(Map.of(project.getUuid(), Group.LEAD), index.getUserProjects(userId));
+
+        project.setLeads(Set.of());
+        index.putProject(project);
+
+        Assertions.assertEquals(Group.DEFAULT, index.getUserGroup(userId, project.getUuid(), Set.of()));
+        Assertions.assertEquals(Map.of(), index.getUserProjects(userId));
+    }
+
+    /**
+     * Test that projects of the user are known without loading each project.
+     */
+    @Test
+    public void putUserProjects_WhenUserIndexed_ShouldAnswerForAnyProject() {
+        UUID userId = UUID.randomUUID();
+        Project runnerProject = project(Set.of(), Set.of(), Set.of(userId), Set.of());
+        Project otherProject = project(Set.of(UUID.randomUUID()), Set.of(), Set.of(), Set.of());
+
+        index.putUserProjects(userId, List.of(runnerProject, otherProject));
+
+        Assertions.assertEquals(Map.of(runnerProject.getUuid(), Group.EXECUTOR), index.getUserProjects(userId));
+        Assertions.assertEquals(Group.EXECUTOR, index.getUserGroup(userId, runnerProject.getUuid(), Set.of()));
+        Assertions.assertEquals(Group.DEFAULT, index.getUserGroup(userId, UUID.randomUUID(), Set.of()));
+        Assertions.assertNull(index.getUserProjects(UUID.randomUUID()));
+    }
+
+    /**
+     * Test that entries expire after TTL.
+     */
+    @Test
+    public void getUserGroup_WhenTtlPassed_ShouldReturnNull() {
+        UUID userId = UUID.randomUUID();
+        Project project = project(Set.of(userId), Set.of(), Set.of(), Set.of());
+        index.putProject(project);
+        index.putUserProjects(userId, List.of(project));
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(6));
+
+        Assertions.assertNull(index.getUserGroup(userId, project.getUuid(), Set.of()));
+        Assertions.assertNull(index.getUserProjects(userId));
+        Assertions.assertNull(index.getPermissions(project.getUuid()));
+
+        index.putProject(project(Set.of(), Set.of(), Set.of(), Set.of()));
+
+        Assertions.assertEquals(0, index.size());
+    }
+
+    private static Project project(final Set<UUID> leads, final Set<UUID> engineers,
+                                   final Set<UUID> runners, final Set<UUID> supports) {
+        Project project = new Project();
+        project.setUuid(UUID.randomUUID());
+        project.setLeads(leads);
+        project.setQaTaEngineers(engineers);
+        project.setAtpRunners(runners);
+        project.setAtpSupports(supports);
+        project.setPermissions(new Permissions());
+        return project;
+    }
+}
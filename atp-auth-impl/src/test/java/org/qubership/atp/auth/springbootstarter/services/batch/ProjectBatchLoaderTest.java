@@ -0,0 +1,126 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.services.batch;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+
+public class ProjectBatchLoaderTest {
+
+    /**
+     * Test that projects are requested in batches of limited size.
+     */
+    @Test
+    public void allMatch_WhenBatchSupported_ShouldLoadInBatches() {
+        List<UUID> projectIds = projectIds(250);
+        Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+        AtomicInteger singles = new AtomicInteger();
+
+        boolean result = new ProjectBatchLoader(100, 2).allMatch(projectIds, batch -> {
+            batchSizes.add(batch.size());
+            return batch.stream().map(ProjectBatchLoaderTest::project).toList();
+        }, projectId -> {
+            singles.incrementAndGet();
+            return project(projectId);
+        }, project -> true);
+
+        Assertions.assertTrue(result);
+        Assertions.assertEquals(3, batchSizes.size());
+        Assertions.assertEquals(250, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        Assertions.assertEquals(0, singles.get());
+    }
+
+    /**
+     * Test that projects of a failed batch are requested one by one.
+     */
+    @Test
+    public void allMatch_WhenBatchFails_ShouldLoadOneByOne() {
+        List<UUID> projectIds = projectIds(10);
+        Queue<UUID> checked = new ConcurrentLinkedQueue<>();
+
+        boolean result = new ProjectBatchLoader(100, 3).allMatch(projectIds, batch -> {
+            throw new IllegalStateException("Batch endpoint isn't supported");
+        }, ProjectBatchLoaderTest::project, project -> checked.add(project.getUuid()));
+
+        Assertions.assertTrue(result);
+        Assertions.assertEquals(10, checked.size());
+        Assertions.assertTrue(checked.containsAll(projectIds));
+    }
+
+    /**
+     * Test that the first denying project decides the result and outstanding requests are cancelled.
+     */
+    @Test
+    public void allMatch_WhenProjectDenies_ShouldCancelOutstandingRequests() throws InterruptedException {
+        List<UUID> projectIds = projectIds(5);
+        UUID denied = projectIds.get(0);
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch cancelled = new CountDownLatch(4);
+
+        boolean result = new ProjectBatchLoader(1, 5).allMatch(projectIds, batch -> {
+            try {
+                if (batch.contains(denied)) {
+                    started.await(10, TimeUnit.SECONDS);
+                } else {
+                    started.countDown();
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                }
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return batch.stream().map(ProjectBatchLoaderTest::project).toList();
+        }, ProjectBatchLoaderTest::project, project -> !denied.equals(project.getUuid()));
+
+        Assertions.assertFalse(result);
+        Assertions.assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that failure of a single request is thrown to the caller.
+     */
+    @Test
+    public void allMatch_WhenSingleRequestFails_ShouldThrow() {
+        List<UUID> projectIds = projectIds(3);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> new ProjectBatchLoader(100, 2).allMatch(
+                projectIds, batch -> List.of(), projectId -> {
+                    throw new IllegalStateException("Users service is unavailable");
+                }, project -> true));
+    }
+
+    private static List<UUID> projectIds(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+    private static Project project(final UUID projectId) {
+        Project project = new Project();
+        project.setUuid(projectId);
+        return project;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.bulk;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ChunkedBulkExecutorTest {
+
+    /**
+     * Test that all items are processed in chunks of limited size.
+     */
+    @Test
+    public void execute_WhenItemsExceedChunkSize_ShouldSplitIntoChunks() {
+        List<Integer> items = IntStream.range(0, 2500).boxed().toList();
+        Queue<Integer> chunkSizes = new ConcurrentLinkedQueue<>();
+
+        BulkOperationResult<Integer> result = new ChunkedBulkExecutor(1000, 2)
+                .execute(items, chunk -> chunkSizes.add(chunk.size()), BulkOperationListener.noop());
+
+        Assertions.assertTrue(result.isSuccessful());
+        Assertions.assertEquals(2500, result.getSucceeded());
+        Assertions.assertEquals(3, chunkSizes.size());
+        Assertions.assertEquals(2500, chunkSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * Test that no more than 'parallelism' chunks are processed concurrently.
+     */
+    @Test
+    public void execute_WhenParallel_ShouldNotExceedParallelism() {
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        new ChunkedBulkExecutor(5, 3).execute(items, chunk -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+        }, BulkOperationListener.noop());
+
+        Assertions.assertTrue(maxInFlight.get() <= 3);
+    }
+
+    /**
+     * Test that failed chunks are reported while other chunks are still processed.
+     */
+    @Test
+    public void execute_WhenChunkFails_ShouldReportPartialFailure() {
+        List<Integer> items = IntStream.range(0, 10).boxed().toList();
+        AtomicInteger succeededCallbacks = new AtomicInteger();
+        AtomicInteger failedCallbacks = new AtomicInteger();
+        BulkOperationListener<Integer> listener = new BulkOperationListener<>() {
+            @Override
+            public void onChunkSucceeded(final List<Integer> chunk, final Duration elapsed) {
+                succeededCallbacks.incrementAndGet();
+            }
+
+            @Override
+            public void onChunkFailed(final List<Integer> chunk, final Exception exception) {
+                failedCallbacks.incrementAndGet();
+            }
+        };
+
+        BulkOperationResult<Integer> result = new ChunkedBulkExecutor(3, 2).execute(items, chunk -> {
+            if (chunk.contains(4)) {
+                throw new IllegalStateException("Backend timeout");
+            }
+        }, listener);
+
+        Assertions.assertFalse(result.isSuccessful());
+        Assertions.assertEquals(7, result.getSucceeded());
+        Assertions.assertEquals(3, result.getFailed());
+        Assertions.assertEquals(List.of(3, 4, 5), result.getFailures().get(0).items());
+        Assertions.assertEquals(3, succeededCallbacks.get());
+        Assertions.assertEquals(1, failedCallbacks.get());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client.resilience;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AimdConcurrencyLimiterTest {
+
+    /**
+     * Latency threshold used in tests, in nanoseconds.
+     */
+    private static final long THRESHOLD = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Test that the limit grows after successful calls made under load.
+     */
+    @Test
+    public void release_WhenCallSucceededUnderLoad_ShouldIncreaseLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, 0.5, THRESHOLD, 0);
+
+        Assertions.assertTrue(limiter.tryAcquire(0));
+        limiter.release(1, false);
+
+        Assertions.assertEquals(3, limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getInflight());
+    }
+
+    /**
+     * Test that the limit decreases after dropped or slow calls, but not below the minimum.
+     */
+    @Test
+    public void release_WhenCallDroppedOrSlow_ShouldDecreaseLimit() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(8, 3, 10, 0.5, THRESHOLD, 0);
+
+        limiter.tryAcquire(0);
+        limiter.release(1, true);
+        Assertions.assertEquals(4, limiter.getLimit());
+
+        limiter.tryAcquire(0);
+        limiter.release(THRESHOLD + 1, false);
+        Assertions.assertEquals(3, limiter.getLimit());
+    }
+
+    /**
+     * Test that calls over the limit are rejected when the queue is full.
+     */
+    @Test
+    public void tryAcquire_WhenLimitReachedAndNoQueue_ShouldReject() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 1, 0.5, THRESHOLD, 0);
+
+        Assertions.assertTrue(limiter.tryAcquire(TimeUnit.SECONDS.toNanos(1)));
+        Assertions.assertFalse(limiter.tryAcquire(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * Test that queued call gets the permit released by another call.
+     */
+    @Test
+    public void tryAcquire_WhenPermitReleased_ShouldAcquireQueuedCall() throws Exception {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 1, 0.5, THRESHOLD, 1);
+        Assertions.assertTrue(limiter.tryAcquire(0));
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+                () -> limiter.tryAcquire(TimeUnit.SECONDS.toNanos(5)));
+        Thread.sleep(50);
+        Assertions.assertFalse(queued.isDone());
+        limiter.release(1, false);
+
+        Assertions.assertTrue(queued.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, limiter.getInflight());
+    }
+
+    /**
+     * Test that queued call is rejected when the timeout passes.
+     */
+    @Test
+    public void tryAcquire_WhenQueueTimeoutPassed_ShouldReject() {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 1, 0.5, THRESHOLD, 1);
+        limiter.tryAcquire(0);
+
+        Assertions.assertFalse(limiter.tryAcquire(TimeUnit.MILLISECONDS.toNanos(20)));
+        Assertions.assertEquals(1, limiter.getInflight());
+    }
+}
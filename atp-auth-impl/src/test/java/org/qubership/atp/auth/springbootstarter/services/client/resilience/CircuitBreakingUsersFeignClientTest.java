@@ -0,0 +1,165 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client.resilience;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.exceptions.AtpServiceUnavailableException;
+import org.qubership.atp.auth.springbootstarter.feign.codec.BinaryFormat;
+import org.qubership.atp.auth.springbootstarter.feign.codec.ContentNegotiatingDecoder;
+import org.qubership.atp.auth.springbootstarter.feign.exception.FeignClientExceptionErrorDecoder;
+import org.qubership.atp.auth.springbootstarter.services.client.UsersFeignClient;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Retryer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CircuitBreakingUsersFeignClientTest {
+
+    /**
+     * Stand-in of users service.
+     */
+    private HttpServer server;
+
+    /**
+     * Fault injection switch: when true, the stand-in replies 503.
+     */
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    /**
+     * Number of requests received by the stand-in.
+     */
+    private final AtomicInteger hits = new AtomicInteger();
+
+    /**
+     * Meter registry.
+     */
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Start the stand-in of users service.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/users/projects/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Stop the stand-in.
+     */
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Test that stale result is returned while the backend fails and the breaker is open,
+     * and that calls without stale result fail fast.
+     */
+    @Test
+    public void getUsersByProject_WhenBackendFails_ShouldServeStaleThenFailFast() {
+        CircuitBreakingUsersFeignClient client = new CircuitBreakingUsersFeignClient(createFeignClient(),
+                new CircuitBreakingUsersFeignClient.Settings(4, 2, 60, Duration.ofMinutes(1), 1,
+                        Duration.ofHours(1), 100), meterRegistry);
+        UUID projectId = UUID.randomUUID();
+        Project project = client.getUsersByProject(projectId);
+
+        failing.set(true);
+        Assertions.assertSame(project, client.getUsersByProject(projectId));
+        Assertions.assertSame(project, client.getUsersByProject(projectId));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, client.getCircuitBreaker().getState());
+        Assertions.assertEquals(3, hits.get());
+
+        Assertions.assertSame(project, client.getUsersByProject(projectId));
+        Assertions.assertThrows(AtpServiceUnavailableException.class,
+                () -> client.getUsersByProject(UUID.randomUUID()));
+        Assertions.assertEquals(3, hits.get());
+        Assertions.assertEquals(1, meterRegistry.get("atp.auth.users.circuit-breaker.transitions")
+                .tag("to", "OPEN").counter().count());
+    }
+
+    /**
+     * Test that the breaker closes after successful trial call.
+     */
+    @Test
+    public void getUsersByProject_WhenBackendRecovers_ShouldCloseBreaker() {
+        CircuitBreakingUsersFeignClient client = new CircuitBreakingUsersFeignClient(createFeignClient(),
+                new CircuitBreakingUsersFeignClient.Settings(4, 2, 50, Duration.ZERO, 1, Duration.ZERO, 100),
+                meterRegistry);
+        failing.set(true);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThrows(RuntimeException.class, () -> client.getUsersByProject(UUID.randomUUID()));
+        }
+
+        failing.set(false);
+        Assertions.assertNotNull(client.getUsersByProject(UUID.randomUUID()));
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitBreaker().getState());
+    }
+
+    private UsersFeignClient createFeignClient() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("users", Map.of(
+                "feign.atp.users.route", "",
+                "atp-auth.project_info_endpoint", "/api/v1/users/projects")));
+        SpringMvcContract contract = new SpringMvcContract();
+        contract.setResourceLoader(context);
+        return Feign.builder()
+                .contract(contract)
+                .decoder(new ContentNegotiatingDecoder(new ObjectMapper(), BinaryFormat.NONE))
+                .errorDecoder(new FeignClientExceptionErrorDecoder())
+                .retryer(Retryer.NEVER_RETRY)
+                .target(UsersFeignClient.class, "http://localhost:" + server.getAddress().getPort());
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        if (failing.get()) {
+            exchange.sendResponseHeaders(503, -1);
+        } else {
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = "{\"uuid\":\"%s\",\"leads\":[\"%s\"]}".formatted(path.substring(path.lastIndexOf('/') + 1),
+                    UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.client.resilience;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.services.client.UsersFeignClient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class HedgingUsersFeignClientTest {
+
+    /**
+     * Meter registry.
+     */
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Test that slow call is hedged and the first answer is taken.
+     */
+    @Test
+    public void getUsersByProject_WhenFirstRequestIsSlow_ShouldReturnHedgedAnswer() {
+        Project slow = new Project();
+        Project fast = new Project();
+        UsersFeignClient delegate = createDelegate(slow, fast);
+        HedgingUsersFeignClient client = new HedgingUsersFeignClient(delegate, createSettings(0.1, 10), meterRegistry);
+
+        Assertions.assertSame(fast, client.getUsersByProject(UUID.randomUUID()));
+        Assertions.assertEquals(1, meterRegistry.get("atp.auth.users.hedging").tag("result", "fired")
+                .counter().count());
+        // the hedge is counted as won right after it completes the result the caller is waiting for
+        Awaitility.await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> Assertions.assertEquals(1,
+                meterRegistry.get("atp.auth.users.hedging").tag("result", "won").counter().count()));
+    }
+
+    /**
+     * Test that no hedge is sent when the budget is exhausted.
+     */
+    @Test
+    public void getUsersByProject_WhenBudgetExhausted_ShouldWaitForFirstRequest() {
+        Project slow = new Project();
+        UsersFeignClient delegate = createDelegate(slow, new Project());
+        HedgingUsersFeignClient client = new HedgingUsersFeignClient(delegate, createSettings(0, 1), meterRegistry);
+        client.getUsersByProject(UUID.randomUUID());
+
+        Project second = new Project();
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return second;
+        }).when(delegate).getUsersByProject(any());
+
+        Assertions.assertSame(second, client.getUsersByProject(UUID.randomUUID()));
+        Assertions.assertEquals(1, meterRegistry.get("atp.auth.users.hedging").tag("result", "budget_exhausted")
+                .counter().count());
+    }
+
+    private static UsersFeignClient createDelegate(final Project slow, final Project fast) {
+        UsersFeignClient delegate = mock(UsersFeignClient.class);
+        AtomicInteger calls = new AtomicInteger();
+        when(delegate.getUsersByProject(any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                Thread.sleep(2000);
+                return slow;
+            }
+            return fast;
+        });
+        return delegate;
+    }
+
+    private static HedgingUsersFeignClient.Settings createSettings(final double budgetRatio,
+                                                                   final int budgetMaxTokens) {
+        return new HedgingUsersFeignClient.Settings(Set.of("getUsersByProject"), 0.95, 100,
+                Duration.ofMillis(50), Duration.ofMillis(10), budgetRatio, budgetMaxTokens);
+    }
+}
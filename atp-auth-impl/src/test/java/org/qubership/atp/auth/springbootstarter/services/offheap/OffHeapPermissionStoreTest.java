@@ -0,0 +1,109 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.offheap;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Group;
+import org.qubership.atp.auth.springbootstarter.entities.Operations;
+import org.qubership.atp.auth.springbootstarter.entities.Permissions;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.services.ObjectPermissionsCacheKey;
+
+public class OffHeapPermissionStoreTest {
+
+    /**
+     * Current time of the store, in nanoseconds.
+     */
+    private final AtomicLong now = new AtomicLong();
+
+    /**
+     * Store under test.
+     */
+    private final OffHeapPermissionStore store = new OffHeapPermissionStore(Duration.ofMinutes(5), now::get);
+
+    /**
+     * Test that user group is resolved the same way as by Project.
+     */
+    @Test
+    public void getUserGroup_WhenProjectStored_ShouldReturnSameGroupAsProject() {
+        UUID lead = UUID.randomUUID();
+        UUID engineerAndRunner = UUID.randomUUID();
+        UUID support = UUID.randomUUID();
+        Project project = new Project();
+        project.setUuid(UUID.randomUUID());
+        project.setLeads(Set.of(lead));
+        project.setQaTaEngineers(Set.of(engineerAndRunner));
+        project.setAtpRunners(Set.of(engineerAndRunner));
+        project.setAtpSupports(Set.of(support));
+        project.setPermissions(new Permissions());
+
+        store.putProject(project);
+
+        for (UUID userId : Set.of(lead, engineerAndRunner, support, UUID.randomUUID())) {
+            Assertions.assertEquals(project.getUserGroup(userId, Set.of()),
+                    store.getUserGroup(project.getUuid(), userId, Set.of()));
+        }
+        Assertions.assertEquals(Group.SUPPORT, store.getUserGroup(project.getUuid(), UUID.randomUUID(),
+                Set.of("ATP_SUPPORT")));
+        Assertions.assertSame(project.getPermissions(), store.getPermissions(project.getUuid()));
+        Assertions.assertTrue(store.footprint() > 0);
+    }
+
+    /**
+     * Test that entries expire after TTL.
+     */
+    @Test
+    public void getUserGroup_WhenTtlPassed_ShouldReturnNull() {
+        Project project = new Project();
+        project.setUuid(UUID.randomUUID());
+        store.putProject(project);
+
+        now.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        Assertions.assertNull(store.getUserGroup(project.getUuid(), UUID.randomUUID(), Set.of()));
+        Assertions.assertFalse(store.containsProject(project.getUuid()));
+        Assertions.assertEquals(0, store.size());
+    }
+
+    /**
+     * Test that object permissions are kept as masks of operations.
+     */
+    @Test
+    public void getOperationsMask_WhenObjectPermissionsStored_ShouldReturnMask() {
+        UUID userId = UUID.randomUUID();
+        Operations operations = new Operations(false, true, true, false, false, false, false);
+        ObjectPermissionsCacheKey key = new ObjectPermissionsCacheKey("testPlan", UUID.randomUUID(),
+                UUID.randomUUID());
+
+        store.putObjectPermissions(key, Map.of("object", Map.of(userId, operations)));
+
+        Assertions.assertEquals(operations.toMask(), store.getOperationsMask(key, "object", userId));
+        Assertions.assertEquals(-1, store.getOperationsMask(key, "object", UUID.randomUUID()));
+        Assertions.assertEquals(-1, store.getOperationsMask(key, "another", userId));
+
+        store.removeProject(key.projectId());
+
+        Assertions.assertFalse(store.containsObjectPermissions(key));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.snapshot;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.qubership.atp.auth.springbootstarter.entities.Operations;
+import org.qubership.atp.auth.springbootstarter.entities.Permissions;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.services.ObjectPermissionsCacheKey;
+
+public class PermissionCacheSnapshotCodecTest {
+
+    /**
+     * Key of the snapshot signature.
+     */
+    private static final SecretKey SIGNING_KEY = signingKey("snapshot-signing-secret");
+
+    /**
+     * Directory for snapshot files.
+     */
+    @TempDir
+    private Path directory;
+
+    /**
+     * Test that written snapshot is read back equal.
+     */
+    @Test
+    public void read_WhenSnapshotWritten_ShouldReturnSameEntries() throws IOException {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Project project = new Project();
+        project.setUuid(projectId);
+        project.setLeads(Set.of(userId));
+        project.setQaTaEngineers(Set.of());
+        Permissions permissions = new Permissions();
+        permissions.setLeads(Map.of("Test Plan", new Operations(true, true, false, false, true, false, false)));
+        project.setPermissions(permissions);
+        ObjectPermissionsCacheKey objectKey = new ObjectPermissionsCacheKey("testPlan", projectId, UUID.randomUUID());
+        Map<String, Map<UUID, Operations>> objectPermissions = Map.of("atp-catalogue-testPlan-1",
+                Map.of(userId, new Operations(false, true, false, false, false, false, false)));
+        Path path = directory.resolve("cache.snapshot");
+
+        PermissionCacheSnapshotCodec.write(path, new PermissionCacheSnapshotCodec.Snapshot(1000L,
+                Map.of(projectId, project), Map.of(objectKey, objectPermissions)), SIGNING_KEY);
+        PermissionCacheSnapshotCodec.Snapshot snapshot = PermissionCacheSnapshotCodec.read(path, SIGNING_KEY);
+
+        Assertions.assertEquals(1000L, snapshot.createdAt());
+        Assertions.assertEquals(project, snapshot.projects().get(projectId));
+        Assertions.assertNull(snapshot.projects().get(projectId).getAtpRunners());
+        Assertions.assertEquals(objectPermissions, snapshot.objectPermissions().get(objectKey));
+    }
+
+    /**
+     * Test that a file of another format is rejected.
+     */
+    @Test
+    public void read_WhenFileHasWrongFormat_ShouldThrowIoException() throws IOException {
+        Path path = Files.writeString(directory.resolve("cache.snapshot"), "not a snapshot");
+
+        Assertions.assertThrows(IOException.class, () -> PermissionCacheSnapshotCodec.read(path, SIGNING_KEY));
+    }
+
+    /**
+     * Test that a modified snapshot, or a snapshot signed with another key, is rejected.
+     */
+    @Test
+    public void read_WhenSignatureDoesNotMatch_ShouldThrowIoException() throws IOException {
+        Project project = new Project();
+        project.setUuid(UUID.randomUUID());
+        project.setLeads(Set.of(UUID.randomUUID()));
+        Path path = directory.resolve("cache.snapshot");
+        PermissionCacheSnapshotCodec.write(path, new PermissionCacheSnapshotCodec.Snapshot(1000L,
+                Map.of(project.getUuid(), project), Map.of()), SIGNING_KEY);
+
+        Assertions.assertThrows(IOException.class,
+                () -> PermissionCacheSnapshotCodec.read(path, signingKey("another-secret")));
+
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+
+        Assertions.assertThrows(IOException.class, () -> PermissionCacheSnapshotCodec.read(path, SIGNING_KEY));
+    }
+
+    private static SecretKey signingKey(final String secret) {
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
+                PermissionCacheSnapshotCodec.SIGNATURE_ALGORITHM);
+    }
+}
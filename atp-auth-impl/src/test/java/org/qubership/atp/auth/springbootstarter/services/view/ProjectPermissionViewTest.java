@@ -0,0 +1,92 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.view;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.entities.Project;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ProjectPermissionViewTest {
+
+    /**
+     * View under test.
+     */
+    private final ProjectPermissionView view = new ProjectPermissionView(new ObjectMapper());
+
+    /**
+     * Test that project record is added to the view and tombstone removes it.
+     */
+    @Test
+    public void apply_WhenRecordAndTombstone_ShouldAddAndRemoveProject() {
+        UUID projectId = UUID.randomUUID();
+        UUID leadId = UUID.randomUUID();
+
+        view.apply(projectId, "{\"leads\":[\"" + leadId + "\"],\"unknownField\":1}");
+        Project project = view.get(projectId);
+
+        Assertions.assertEquals(projectId, project.getUuid());
+        Assertions.assertEquals(Set.of(leadId), project.getLeads());
+        Assertions.assertEquals(1, view.size());
+
+        view.apply(projectId, null);
+
+        Assertions.assertNull(view.get(projectId));
+        Assertions.assertEquals(0, view.size());
+    }
+
+    /**
+     * Test that malformed record is skipped and previous state of the project is kept.
+     */
+    @Test
+    public void apply_WhenRecordIsMalformed_ShouldKeepPreviousProject() {
+        UUID projectId = UUID.randomUUID();
+        view.apply(projectId, "{}");
+        Project project = view.get(projectId);
+
+        view.apply(projectId, "{not a json");
+
+        Assertions.assertSame(project, view.get(projectId));
+    }
+
+    /**
+     * Test that lag reported by the consumer is summed over partitions.
+     */
+    @Test
+    public void onMessage_WhenConsumerReportsLag_ShouldExposeTotalLag() {
+        Consumer<?, ?> consumer = mock(Consumer.class);
+        when(consumer.currentLag(new TopicPartition("project_permissions", 0))).thenReturn(OptionalLong.of(5));
+        when(consumer.currentLag(new TopicPartition("project_permissions", 1))).thenReturn(OptionalLong.of(2));
+
+        view.onMessage(new ConsumerRecord<>("project_permissions", 0, 10, UUID.randomUUID(), "{}"), consumer);
+        view.onMessage(new ConsumerRecord<>("project_permissions", 1, 3, UUID.randomUUID(), "{}"), consumer);
+
+        Assertions.assertEquals(7, view.getLag());
+        Assertions.assertEquals(2, view.size());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.services.warmup;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.auth.springbootstarter.security.oauth2.client.config.Oauth2FeignClientInterceptor;
+import org.qubership.atp.auth.springbootstarter.services.UsersService;
+import org.springframework.boot.actuate.health.Status;
+
+public class PermissionCacheWarmerTest {
+
+    /**
+     * Test that configured and provided projects are loaded, and M2M token is obtained first.
+     */
+    @Test
+    public void warmUp_WhenProjectsConfiguredAndProvided_ShouldLoadAllOfThem() {
+        UUID configured = UUID.randomUUID();
+        UUID provided = UUID.randomUUID();
+        UsersService usersService = mock(UsersService.class);
+        Oauth2FeignClientInterceptor interceptor = mock(Oauth2FeignClientInterceptor.class);
+        when(interceptor.prefetchM2MToken()).thenReturn(true);
+        PermissionCacheWarmer warmer = new PermissionCacheWarmer(usersService,
+                List.of(() -> List.of(provided, configured)), interceptor,
+                new PermissionCacheWarmer.Settings(List.of(configured), 2, Duration.ofSeconds(10)));
+
+        warmer.run(null);
+
+        verify(interceptor).prefetchM2MToken();
+        verify(usersService).getUsersByProject(configured);
+        verify(usersService).getUsersByProject(provided);
+        verify(usersService, never()).getObjectPermissionsForService(any());
+        Assertions.assertEquals(new PermissionCacheWarmer.Progress(PermissionCacheWarmer.State.COMPLETED, 2, 2, 0),
+                warmer.getProgress());
+    }
+
+    /**
+     * Test that failed projects are counted and don't stop warm-up.
+     */
+    @Test
+    public void warmUp_WhenProjectFails_ShouldCountFailureAndContinue() {
+        UUID failing = UUID.randomUUID();
+        UsersService usersService = mock(UsersService.class);
+        when(usersService.getUsersByProject(failing)).thenThrow(new IllegalStateException("Backend timeout"));
+        PermissionCacheWarmer warmer = new PermissionCacheWarmer(usersService, List.of(), null,
+                new PermissionCacheWarmer.Settings(List.of(failing, UUID.randomUUID()), 1, Duration.ofSeconds(10)));
+
+        Assertions.assertEquals(PermissionCacheWarmer.State.NOT_STARTED, warmer.getProgress().state());
+        warmer.warmUp();
+
+        Assertions.assertEquals(new PermissionCacheWarmer.Progress(PermissionCacheWarmer.State.COMPLETED, 2, 1, 1),
+                warmer.getProgress());
+    }
+
+    /**
+     * Test that health is UP with progress details once startup stops waiting for a slow warm-up.
+     */
+    @Test
+    public void health_WhenWarmUpTimedOut_ShouldBeUpWhileWarmUpContinues() throws InterruptedException {
+        UUID slow = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        UsersService usersService = mock(UsersService.class);
+        when(usersService.getUsersByProject(slow)).thenAnswer(invocation -> {
+            release.await();
+            return null;
+        });
+        PermissionCacheWarmer warmer = new PermissionCacheWarmer(usersService, List.of(), null,
+                new PermissionCacheWarmer.Settings(List.of(slow), 1, Duration.ofMillis(50)));
+        PermissionCacheWarmUpHealthIndicator indicator = new PermissionCacheWarmUpHealthIndicator(warmer);
+
+        Assertions.assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+        try {
+            warmer.run(null);
+
+            Assertions.assertTrue(warmer.isWaitOver());
+            Assertions.assertNotEquals(PermissionCacheWarmer.State.COMPLETED, warmer.getProgress().state());
+            Assertions.assertEquals(Status.UP, indicator.health().getStatus());
+            Assertions.assertEquals(true, indicator.health().getDetails().get("background"));
+        } finally {
+            release.countDown();
+        }
+    }
+}
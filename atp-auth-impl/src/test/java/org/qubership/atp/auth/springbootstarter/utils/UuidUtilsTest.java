@@ -0,0 +1,51 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.utils;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class UuidUtilsTest {
+
+    /**
+     * Test that canonical UUID strings are parsed as by UUID.fromString.
+     */
+    @Test
+    public void parse_WhenCanonical_ShouldReturnSameUuidAsFromString() {
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = UUID.randomUUID();
+            Assertions.assertEquals(uuid, UuidUtils.parse(uuid.toString()));
+            Assertions.assertEquals(uuid, UuidUtils.parse(uuid.toString().toUpperCase(Locale.ROOT)));
+        }
+        Assertions.assertEquals(new UUID(-1, -1), UuidUtils.parse("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+    }
+
+    /**
+     * Test that non-canonical forms are handled by UUID.fromString.
+     */
+    @Test
+    public void parse_WhenNotCanonical_ShouldFallBackToFromString() {
+        Assertions.assertEquals(UUID.fromString("1-2-3-4-5"), UuidUtils.parse("1-2-3-4-5"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> UuidUtils.parse("not-a-uuid"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> UuidUtils.parse("1c0167c9-1bea-4587-8f32-d637ff341d3g"));
+    }
+}
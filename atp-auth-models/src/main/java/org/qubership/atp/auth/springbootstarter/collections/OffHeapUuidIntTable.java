@@ -0,0 +1,203 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable open addressing table from UUID to int, kept off-heap in a direct ByteBuffer.
+ * Each slot takes 24 bytes: key bits, value and occupied flag. Only one object per table is on heap,
+ * so large tables don't add to GC work; the memory is released when the table becomes unreachable.
+ * Built as a copy of {@link UuidIntMap}; safe for concurrent reads.
+ * Several tables can be packed into one buffer, each table then being a slice of it.
+ */
+public final class OffHeapUuidIntTable {
+
+    /**
+     * Size of a slot, in bytes.
+     */
+    private static final int SLOT_SIZE = 24;
+
+    /**
+     * Offset of least significant bits of the key in a slot.
+     */
+    private static final int LSB_OFFSET = 8;
+
+    /**
+     * Offset of the value in a slot.
+     */
+    private static final int VALUE_OFFSET = 16;
+
+    /**
+     * Offset of the occupied flag in a slot.
+     */
+    private static final int USED_OFFSET = 20;
+
+    /**
+     * Slots.
+     */
+    private final ByteBuffer slots;
+
+    /**
+     * Number of slots minus one.
+     */
+    private final int mask;
+
+    /**
+     * Number of entries.
+     */
+    private final int size;
+
+    private OffHeapUuidIntTable(final ByteBuffer slots, final int size) {
+        this.slots = slots.order(ByteOrder.nativeOrder());
+        this.mask = slots.capacity() / SLOT_SIZE - 1;
+        this.size = size;
+    }
+
+    /**
+     * Create off-heap copy of the map.
+     *
+     * @param map map to copy
+     * @return OffHeapUuidIntTable object.
+     */
+    public static OffHeapUuidIntTable copyOf(final UuidIntMap map) {
+        return copyOf(map, ByteBuffer.allocateDirect(lengthOf(map)));
+    }
+
+    /**
+     * Create off-heap copies of the maps packed into one direct buffer, so only one buffer is allocated
+     * for all of them. The buffer is released when all the tables become unreachable.
+     *
+     * @param maps maps to copy, by key
+     * @param <K> type of keys
+     * @return Map of OffHeapUuidIntTable objects by key, in iteration order of the maps.
+     */
+    public static <K> Map<K, OffHeapUuidIntTable> copyOf(final Map<K, UuidIntMap> maps) {
+        int length = 0;
+        for (UuidIntMap map : maps.values()) {
+            length = Math.addExact(length, lengthOf(map));
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        Map<K, OffHeapUuidIntTable> tables = LinkedHashMap.newLinkedHashMap(maps.size());
+        int offset = 0;
+        for (Map.Entry<K, UuidIntMap> entry : maps.entrySet()) {
+            int tableLength = lengthOf(entry.getValue());
+            tables.put(entry.getKey(), copyOf(entry.getValue(), buffer.slice(offset, tableLength)));
+            offset += tableLength;
+        }
+        return tables;
+    }
+
+    private static OffHeapUuidIntTable copyOf(final UuidIntMap map, final ByteBuffer slots) {
+        OffHeapUuidIntTable table = new OffHeapUuidIntTable(slots, map.size());
+        map.forEach((key, value) -> table.write(key.getMostSignificantBits(), key.getLeastSignificantBits(), value));
+        return table;
+    }
+
+    private static int lengthOf(final UuidIntMap map) {
+        return Math.multiplyExact(UuidIntMap.tableSizeFor(map.size()), SLOT_SIZE);
+    }
+
+    /**
+     * Get value for the key.
+     *
+     * @param key UUID key
+     * @param defaultValue value to return if there is no such key
+     * @return value or defaultValue.
+     */
+    public int get(final UUID key, final int defaultValue) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits(), defaultValue);
+    }
+
+    /**
+     * Get value for the key given by its bits.
+     *
+     * @param msb most significant bits of the key
+     * @param lsb least significant bits of the key
+     * @param defaultValue value to return if there is no such key
+     * @return value or defaultValue.
+     */
+    public int get(final long msb, final long lsb, final int defaultValue) {
+        int offset = find(msb, lsb);
+        return slots.getInt(offset + USED_OFFSET) != 0 ? slots.getInt(offset + VALUE_OFFSET) : defaultValue;
+    }
+
+    /**
+     * Check if there is the key in the table.
+     *
+     * @param key UUID key
+     * @return true if the table contains the key.
+     */
+    public boolean containsKey(final UUID key) {
+        return slots.getInt(find(key.getMostSignificantBits(), key.getLeastSignificantBits()) + USED_OFFSET) != 0;
+    }
+
+    /**
+     * Get number of entries.
+     *
+     * @return number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Perform the action for each entry.
+     *
+     * @param action action to perform.
+     */
+    public void forEach(final UuidIntMap.EntryConsumer action) {
+        for (int offset = 0; offset < slots.capacity(); offset += SLOT_SIZE) {
+            if (slots.getInt(offset + USED_OFFSET) != 0) {
+                action.accept(new UUID(slots.getLong(offset), slots.getLong(offset + LSB_OFFSET)),
+                        slots.getInt(offset + VALUE_OFFSET));
+            }
+        }
+    }
+
+    /**
+     * Get off-heap footprint of the table, in bytes.
+     *
+     * @return footprint in bytes.
+     */
+    public long footprint() {
+        return slots.capacity();
+    }
+
+    private void write(final long msb, final long lsb, final int value) {
+        int offset = find(msb, lsb);
+        slots.putLong(offset, msb);
+        slots.putLong(offset + LSB_OFFSET, lsb);
+        slots.putInt(offset + VALUE_OFFSET, value);
+        slots.putInt(offset + USED_OFFSET, 1);
+    }
+
+    private int find(final long msb, final long lsb) {
+        int slot = UuidIntMap.hash(msb, lsb) & mask;
+        int offset = slot * SLOT_SIZE;
+        while (slots.getInt(offset + USED_OFFSET) != 0
+                && (slots.getLong(offset) != msb || slots.getLong(offset + LSB_OFFSET) != lsb)) {
+            slot = (slot + 1) & mask;
+            offset = slot * SLOT_SIZE;
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.collections;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Immutable open addressing set of UUIDs, keeping elements as primitive longs.
+ * Takes about 17 bytes per slot instead of a UUID object plus HashMap.Node per element of HashSet&lt;UUID&gt;,
+ * and a lookup doesn't dereference any element object. Null elements are skipped.
+ */
+public final class UuidSet extends AbstractSet<UUID> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3019523785402117734L;
+
+    /**
+     * Empty set.
+     */
+    private static final UuidSet EMPTY = new UuidSet(8);
+
+    /**
+     * Most significant bits of elements.
+     */
+    private final long[] mostSigBits;
+
+    /**
+     * Least significant bits of elements.
+     */
+    private final long[] leastSigBits;
+
+    /**
+     * Flags of occupied slots.
+     */
+    private final boolean[] used;
+
+    /**
+     * Number of elements.
+     */
+    private int size;
+
+    private UuidSet(final int capacity) {
+        this.mostSigBits = new long[capacity];
+        this.leastSigBits = new long[capacity];
+        this.used = new boolean[capacity];
+    }
+
+    /**
+     * Create set containing the elements of the collection.
+     *
+     * @param uuids collection of UUIDs
+     * @return UuidSet object; the same object if the collection is a UuidSet already.
+     */
+    public static UuidSet copyOf(final Collection<UUID> uuids) {
+        if (uuids instanceof UuidSet uuidSet) {
+            return uuidSet;
+        }
+        if (uuids.isEmpty()) {
+            return EMPTY;
+        }
+        UuidSet set = new UuidSet(UuidIntMap.tableSizeFor(uuids.size()));
+        for (UUID uuid : uuids) {
+            if (uuid != null) {
+                set.insert(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Create set of the elements.
+     *
+     * @param uuids UUIDs
+     * @return UuidSet object.
+     */
+    public static UuidSet of(final UUID... uuids) {
+        return copyOf(Arrays.asList(uuids));
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+        return element instanceof UUID uuid && contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Check if there is the element given by its bits in the set.
+     *
+     * @param msb most significant bits of the element
+     * @param lsb least significant bits of the element
+     * @return true if the set contains the element.
+     */
+    public boolean contains(final long msb, final long lsb) {
+        return used[slot(msb, lsb)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<UUID> iterator() {
+        return new Iterator<>() {
+
+            /**
+             * Next slot to check.
+             */
+            private int next = advance(0);
+
+            @Override
+            public boolean hasNext() {
+                return next < used.length;
+            }
+
+            @Override
+            public UUID next() {
+                if (next >= used.length) {
+                    throw new NoSuchElementException();
+                }
+                UUID uuid = new UUID(mostSigBits[next], leastSigBits[next]);
+                next = advance(next + 1);
+                return uuid;
+            }
+        };
+    }
+
+    /**
+     * Get approximate heap footprint of the set tables, in bytes.
+     *
+     * @return footprint in bytes.
+     */
+    public long footprint() {
+        return (long) used.length * (Long.BYTES * 2 + 1);
+    }
+
+    private int advance(final int from) {
+        int slot = from;
+        while (slot < used.length && !used[slot]) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private void insert(final long msb, final long lsb) {
+        int slot = slot(msb, lsb);
+        if (!used[slot]) {
+            used[slot] = true;
+            mostSigBits[slot] = msb;
+            leastSigBits[slot] = lsb;
+            size++;
+        }
+    }
+
+    private int slot(final long msb, final long lsb) {
+        int mask = used.length - 1;
+        int slot = UuidIntMap.hash(msb, lsb) & mask;
+        while (used[slot] && (mostSigBits[slot] != msb || leastSigBits[slot] != lsb)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
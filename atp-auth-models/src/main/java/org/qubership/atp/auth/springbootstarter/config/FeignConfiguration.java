@@ -16,36 +16,195 @@
 
 package org.qubership.atp.auth.springbootstarter.config;
 
+import java.time.Duration;
+import java.util.Set;
+
+import org.qubership.atp.auth.springbootstarter.feign.codec.BinaryFormat;
+import org.qubership.atp.auth.springbootstarter.feign.codec.ContentEncodingRequestInterceptor;
+import org.qubership.atp.auth.springbootstarter.feign.codec.ContentNegotiatingDecoder;
 import org.qubership.atp.auth.springbootstarter.feign.exception.FeignClientExceptionErrorDecoder;
+import org.qubership.atp.auth.springbootstarter.feign.logging.SamplingFeignLogger;
+import org.qubership.atp.auth.springbootstarter.feign.retry.AtpFeignRetryer;
+import org.qubership.atp.auth.springbootstarter.feign.retry.RetryBudgets;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.FeignLoggerFactory;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
 import org.springframework.cloud.openfeign.support.SpringEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.ClassUtils;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import feign.Logger;
+import feign.RequestInterceptor;
+import feign.Retryer;
+import feign.codec.Decoder;
 import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
+import feign.optionals.OptionalDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 @Configuration
 public class FeignConfiguration {
 
+    /**
+     * Condition to enable content negotiation: compression or binary format is turned on.
+     */
+    private static final String CONTENT_NEGOTIATION_ENABLED = "${atp-auth.feign.compression.enabled:false}"
+            + " or '${atp-auth.feign.binary-format:none}'.toLowerCase() != 'none'";
+
+    /**
+     * Condition to decode responses via feignClientObjectMapper: content negotiation or Jackson fast mode is turned on.
+     */
+    private static final String FEIGN_DECODER_ENABLED = CONTENT_NEGOTIATION_ENABLED
+            + " or ${atp-auth.feign.jackson.fast-mode:false}";
+
+    /**
+     * Name of the Blackbird module class, checked before fast mode is turned on.
+     */
+    private static final String BLACKBIRD_MODULE_CLASS = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
     /**
      * HttpMessageConverters object.
      */
     private volatile HttpMessageConverters feignHttpMessageConverters;
 
+    /**
+     * Request gzip/deflate compressed responses.
+     */
+    @Value("${atp-auth.feign.compression.enabled:false}")
+    private boolean compressionEnabled;
+
+    /**
+     * Compress request bodies with gzip.
+     */
+    @Value("${atp-auth.feign.compression.request.enabled:false}")
+    private boolean requestCompressionEnabled;
+
+    /**
+     * Minimum size of request body to be compressed, in bytes.
+     */
+    @Value("${atp-auth.feign.compression.request.min-size:2048}")
+    private int requestCompressionMinSize;
+
+    /**
+     * Binary format (none, smile, cbor) requested from the server in addition to JSON.
+     */
+    @Value("${atp-auth.feign.binary-format:none}")
+    private String binaryFormat;
+
+    /**
+     * Turn on Jackson fast mode: bytecode generated accessors (Blackbird) and fast number parsers.
+     */
+    @Value("${atp-auth.feign.jackson.fast-mode:false}")
+    private boolean jacksonFastMode;
+
+    /**
+     * Maximum number of error response body bytes read by the error decoder.
+     */
+    @Value("${atp-auth.feign.error-decoder.max-body-size:65536}")
+    private int errorMaxBodySize;
+
+    /**
+     * Maximum number of attempts of a Feign call, including the first one.
+     */
+    @Value("${atp-auth.feign.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    /**
+     * Delay before the first retry; it's doubled for each next retry.
+     */
+    @Value("${atp-auth.feign.retry.initial-backoff:100ms}")
+    private Duration retryInitialBackoff;
+
+    /**
+     * Maximum delay between attempts.
+     */
+    @Value("${atp-auth.feign.retry.max-backoff:2s}")
+    private Duration retryMaxBackoff;
+
+    /**
+     * Maximum Retry-After to wait for; the call fails immediately if the server asks to wait longer.
+     */
+    @Value("${atp-auth.feign.retry.max-retry-after:10s}")
+    private Duration retryMaxRetryAfter;
+
+    /**
+     * Http statuses to retry (connection errors are retried too).
+     */
+    @Value("${atp-auth.feign.retry.retryable-statuses:408,429,502,503,504}")
+    private Set<Integer> retryableStatuses;
+
+    /**
+     * Fraction of requests of a Feign client which can be retried.
+     */
+    @Value("${atp-auth.feign.retry.budget.ratio:0.1}")
+    private double retryBudgetRatio;
+
+    /**
+     * Maximum number of retries of a Feign client in a burst.
+     */
+    @Value("${atp-auth.feign.retry.budget.max-tokens:10}")
+    private int retryBudgetMaxTokens;
+
+    /**
+     * Logging level of Feign clients.
+     */
+    @Value("${atp-auth.feign.logger.level:FULL}")
+    private Logger.Level feignLoggerLevel;
+
+    /**
+     * Fraction of successful calls to log (from 0 to 1), when sampling logger is turned on.
+     */
+    @Value("${atp-auth.feign.logger.sampling.rate:0.01}")
+    private double loggerSampleRate;
+
+    /**
+     * Log failed calls at WARN level regardless of sampling.
+     */
+    @Value("${atp-auth.feign.logger.sampling.always-log-errors:true}")
+    private boolean loggerAlwaysLogErrors;
+
+    /**
+     * Maximum number of body bytes logged by sampling logger.
+     */
+    @Value("${atp-auth.feign.logger.sampling.max-body-size:4096}")
+    private int loggerMaxBodySize;
+
     @Bean
     Logger.Level feignLoggerLevel() {
-        return Logger.Level.FULL;
+        return feignLoggerLevel;
+    }
+
+    /**
+     * Create logger factory for Feign clients which logs only a sample of successful calls, and failed calls.
+     *
+     * @return FeignLoggerFactory object.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "atp-auth.feign.logger.sampling.enabled", havingValue = "true")
+    public FeignLoggerFactory samplingFeignLoggerFactory() {
+        return type -> new SamplingFeignLogger(LoggerFactory.getLogger(type), loggerSampleRate,
+                loggerAlwaysLogErrors, loggerMaxBodySize);
     }
 
     /**
@@ -56,7 +215,37 @@ public class FeignConfiguration {
     @Bean
     @ConditionalOnMissingBean(value = ErrorDecoder.class)
     public FeignClientExceptionErrorDecoder commonFeignErrorDecoder() {
-        return new FeignClientExceptionErrorDecoder();
+        return new FeignClientExceptionErrorDecoder(errorMaxBodySize);
+    }
+
+    /**
+     * Create retry budgets of Feign clients; as RequestInterceptor, they are replenished by requests sent.
+     *
+     * @param meterRegistry MeterRegistry bean provider
+     * @return RetryBudgets object.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "atp-auth.feign.retry.enabled", havingValue = "true")
+    public RetryBudgets feignRetryBudgets(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RetryBudgets(retryBudgetRatio, retryBudgetMaxTokens,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Create retryer of Feign clients which retries only idempotent requests failed with retryable statuses.
+     *
+     * @param feignRetryBudgets RetryBudgets bean
+     * @param meterRegistry MeterRegistry bean provider
+     * @return Retryer object.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "atp-auth.feign.retry.enabled", havingValue = "true")
+    public Retryer atpFeignRetryer(final RetryBudgets feignRetryBudgets,
+                                   final ObjectProvider<MeterRegistry> meterRegistry) {
+        AtpFeignRetryer.Policy policy = new AtpFeignRetryer.Policy(retryMaxAttempts, retryInitialBackoff,
+                retryMaxBackoff, retryMaxRetryAfter, Set.copyOf(retryableStatuses));
+        return new AtpFeignRetryer(policy, feignRetryBudgets,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
     }
 
     /**
@@ -78,6 +267,33 @@ public class FeignConfiguration {
         return new SpringEncoder(objectFactory);
     }
 
+    /**
+     * Create {@link Decoder} bean which decompresses response bodies
+     * and decodes them from JSON or the binary format, according to Content-Type.
+     *
+     * @param feignClientObjectMapper ObjectMapper bean
+     * @return Decoder object.
+     */
+    @Bean
+    @ConditionalOnExpression(FEIGN_DECODER_ENABLED)
+    public Decoder contentNegotiatingFeignDecoder(
+            @Qualifier("feignClientObjectMapper") final ObjectMapper feignClientObjectMapper) {
+        return new OptionalDecoder(new ResponseEntityDecoder(
+                new ContentNegotiatingDecoder(feignClientObjectMapper, BinaryFormat.fromName(binaryFormat))));
+    }
+
+    /**
+     * Create request interceptor adding content negotiation headers and compressing request bodies.
+     *
+     * @return RequestInterceptor object.
+     */
+    @Bean
+    @ConditionalOnExpression(CONTENT_NEGOTIATION_ENABLED)
+    public RequestInterceptor contentEncodingRequestInterceptor() {
+        return new ContentEncodingRequestInterceptor(compressionEnabled, requestCompressionEnabled,
+                requestCompressionMinSize, BinaryFormat.fromName(binaryFormat));
+    }
+
     /**
      * Create objectMapper for feign client message converter.
      *
@@ -85,9 +301,42 @@ public class FeignConfiguration {
      */
     @Bean("feignClientObjectMapper")
     public ObjectMapper feignClientObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = jacksonFastMode ? new ObjectMapper(fastJsonFactory()) : new ObjectMapper();
         mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
         mapper.registerModule(new JavaTimeModule());
+        if (jacksonFastMode) {
+            if (!ClassUtils.isPresent(BLACKBIRD_MODULE_CLASS, FeignConfiguration.class.getClassLoader())) {
+                throw new IllegalStateException("'atp-auth.feign.jackson.fast-mode' requires "
+                        + "'com.fasterxml.jackson.module:jackson-module-blackbird' dependency on the classpath");
+            }
+            mapper.registerModule(FastMode.createModule());
+        }
         return mapper;
     }
+
+    /**
+     * Create JsonFactory with fast number parsing/writing, and without interning of field names
+     * (names are still canonicalized per factory, so repeated names aren't allocated again).
+     *
+     * @return JsonFactory object.
+     */
+    private static JsonFactory fastJsonFactory() {
+        return JsonFactory.builder()
+                .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                .enable(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER)
+                .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                .disable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+                .build();
+    }
+
+    /**
+     * Blackbird module of fast mode; jackson-module-blackbird is an optional dependency
+     * which is loaded only when fast mode is enabled.
+     */
+    private static final class FastMode {
+
+        private static Module createModule() {
+            return new BlackbirdModule();
+        }
+    }
 }
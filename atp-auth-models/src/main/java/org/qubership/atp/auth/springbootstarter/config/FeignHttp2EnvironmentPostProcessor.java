@@ -0,0 +1,59 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.config;
+
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * HTTP/2 transport for Feign clients.
+ * Spring Cloud OpenFeign builds the OkHttpClient shared by all Feign clients (load-balanced or not)
+ * with protocols of 'spring.cloud.openfeign.httpclient.ok-http.protocols',
+ * so 'spring.cloud.openfeign.okhttp.enabled=true' is required too.
+ * When HTTP/2 is turned on, this post processor sets default protocols with the lowest precedence:
+ * HTTP/2 negotiated via TLS ALPN with HTTP/1.1 fallback, or cleartext HTTP/2 with prior knowledge (h2c).
+ * Protocols configured explicitly take precedence; timeouts, connection pool and TLS settings are left to OpenFeign.
+ */
+public class FeignHttp2EnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    /**
+     * Name of the property source with default protocols.
+     */
+    public static final String PROPERTY_SOURCE_NAME = "atpAuthFeignHttp2";
+
+    /**
+     * OpenFeign property of OkHttpClient protocols.
+     */
+    public static final String PROTOCOLS_PROPERTY = "spring.cloud.openfeign.httpclient.ok-http.protocols";
+
+    @Override
+    public void postProcessEnvironment(final ConfigurableEnvironment environment,
+                                       final SpringApplication application) {
+        if (!environment.getProperty("atp-auth.feign.http2.enabled", Boolean.class, false)) {
+            return;
+        }
+        String protocols = environment.getProperty("atp-auth.feign.http2.prior-knowledge", Boolean.class, false)
+                ? "H2_PRIOR_KNOWLEDGE"
+                : "HTTP_2,HTTP_1_1";
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME,
+                Map.of(PROTOCOLS_PROPERTY, protocols)));
+    }
+}
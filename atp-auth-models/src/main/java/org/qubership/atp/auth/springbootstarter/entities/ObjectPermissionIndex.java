@@ -0,0 +1,147 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.entities;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.qubership.atp.auth.springbootstarter.collections.UuidIntMap;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * Compact index of object permissions: object name -&gt; user UUID -&gt; bitmask of available operations.
+ * It's an alternative of Map&lt;String, Map&lt;UUID, Operations&gt;&gt;: user UUIDs are kept as primitive longs
+ * and operations as int bitmask (see {@link Operation#getMask()}), so no UUID/Operations objects are created.
+ * It's deserialized from the same JSON token by token, without intermediate maps.
+ */
+@JsonDeserialize(using = ObjectPermissionIndexDeserializer.class)
+public class ObjectPermissionIndex implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2650337262391497183L;
+
+    /**
+     * Users operations bitmasks by object name.
+     */
+    private final Map<String, UuidIntMap> permissions = new HashMap<>();
+
+    /**
+     * Get bitmask of operations available for the user against the object.
+     *
+     * @param objectName name of an object
+     * @param userId UUID of a user
+     * @return bitmask of operations, 0 if there are no permissions.
+     */
+    public int getOperationsMask(final String objectName, final UUID userId) {
+        UuidIntMap users = permissions.get(objectName);
+        return users == null ? 0 : users.get(userId, 0);
+    }
+
+    /**
+     * Check if the operation is available for the user against the object.
+     *
+     * @param objectName name of an object
+     * @param userId UUID of a user
+     * @param operation Operation to check
+     * @return true if the operation is available.
+     */
+    public boolean isOperationAvailable(final String objectName, final UUID userId, final Operation operation) {
+        return (getOperationsMask(objectName, userId) & operation.getMask()) != 0;
+    }
+
+    /**
+     * Check if there are permissions for the object.
+     *
+     * @param objectName name of an object
+     * @return true if the index contains the object.
+     */
+    public boolean containsObject(final String objectName) {
+        return permissions.containsKey(objectName);
+    }
+
+    /**
+     * Check if the user is assigned to the object.
+     *
+     * @param objectName name of an object
+     * @param userId UUID of a user
+     * @return true if the user has an entry for the object (even without available operations).
+     */
+    public boolean containsUser(final String objectName, final UUID userId) {
+        UuidIntMap users = permissions.get(objectName);
+        return users != null && users.containsKey(userId);
+    }
+
+    /**
+     * Get names of indexed objects.
+     *
+     * @return unmodifiable Set of object names.
+     */
+    public Set<String> getObjectNames() {
+        return Collections.unmodifiableSet(permissions.keySet());
+    }
+
+    /**
+     * Get number of indexed objects.
+     *
+     * @return number of objects.
+     */
+    public int size() {
+        return permissions.size();
+    }
+
+    /**
+     * Convert the index to the map in the format returned by Users Service.
+     *
+     * @return Map of permissions.
+     */
+    public Map<String, Map<UUID, Operations>> toMap() {
+        Map<String, Map<UUID, Operations>> result = new HashMap<>(permissions.size() * 2);
+        permissions.forEach((objectName, users) -> {
+            Map<UUID, Operations> operations = new HashMap<>(users.size() * 2);
+            users.forEach((userId, mask) -> operations.put(userId, Operations.fromMask(mask)));
+            result.put(objectName, operations);
+        });
+        return result;
+    }
+
+    /**
+     * Put bitmask of operations available for the user against the object.
+     *
+     * @param objectName name of an object
+     * @param userId UUID of a user
+     * @param operationsMask bitmask of operations.
+     */
+    public void put(final String objectName, final UUID userId, final int operationsMask) {
+        users(objectName).put(userId, operationsMask);
+    }
+
+    /**
+     * Get or create users map of the object.
+     *
+     * @param objectName name of an object
+     * @return users map of the object.
+     */
+    UuidIntMap users(final String objectName) {
+        return permissions.computeIfAbsent(objectName, name -> new UuidIntMap());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.entities;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.qubership.atp.auth.springbootstarter.collections.UuidIntMap;
+import org.qubership.atp.auth.springbootstarter.utils.UuidUtils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Streaming deserializer of {@link ObjectPermissionIndex}.
+ * Reads JSON of Map&lt;String, Map&lt;UUID, Operations&gt;&gt; token by token and puts permissions
+ * directly into the index; user UUIDs are parsed from field names into primitive longs,
+ * operations flags are accumulated into bitmask.
+ */
+public class ObjectPermissionIndexDeserializer extends StdDeserializer<ObjectPermissionIndex> {
+
+    /**
+     * Constructor.
+     */
+    public ObjectPermissionIndexDeserializer() {
+        super(ObjectPermissionIndex.class);
+    }
+
+    /**
+     * Deserialize the index.
+     *
+     * @param parser JsonParser object
+     * @param context DeserializationContext object
+     * @return ObjectPermissionIndex deserialized.
+     */
+    @Override
+    public ObjectPermissionIndex deserialize(final JsonParser parser, final DeserializationContext context)
+            throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (ObjectPermissionIndex) context.handleUnexpectedToken(ObjectPermissionIndex.class, parser);
+        }
+        ObjectPermissionIndex index = new ObjectPermissionIndex();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String objectName = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                readUsers(parser, context, index.users(objectName));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return index;
+    }
+
+    private void readUsers(final JsonParser parser, final DeserializationContext context, final UuidIntMap users)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String userId = parser.currentName();
+            if (!UuidUtils.isCanonical(userId, 0, userId.length())) {
+                throw context.weirdKeyException(UUID.class, userId, "not a valid UUID");
+            }
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                users.put(UuidUtils.parseMostSignificantBits(userId, 0),
+                        UuidUtils.parseLeastSignificantBits(userId, 0),
+                        readOperationsMask(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private int readOperationsMask(final JsonParser parser) throws IOException {
+        int mask = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String operation = parser.currentName();
+            if (parser.nextToken() == JsonToken.VALUE_TRUE) {
+                mask |= maskOf(operation);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return mask;
+    }
+
+    private static int maskOf(final String operation) {
+        return switch (operation) {
+            case "create" -> Operation.CREATE.getMask();
+            case "read" -> Operation.READ.getMask();
+            case "update" -> Operation.UPDATE.getMask();
+            case "delete" -> Operation.DELETE.getMask();
+            case "execute" -> Operation.EXECUTE.getMask();
+            case "lock" -> Operation.LOCK.getMask();
+            case "unlock" -> Operation.UNLOCK.getMask();
+            default -> 0;
+        };
+    }
+}
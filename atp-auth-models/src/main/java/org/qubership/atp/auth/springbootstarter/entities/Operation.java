@@ -53,6 +53,45 @@ public enum Operation {
      */
     UNLOCK;
 
+    /**
+     * Resolve operation by name, ignoring case, the same way as valueOf(name.toUpperCase()) does,
+     * but without allocation: candidates are selected by length and first char, then compared in place.
+     *
+     * @param name operation name (e.g. "READ", "read")
+     * @return Operation object.
+     * @throws IllegalArgumentException if there is no operation with the name.
+     */
+    public static Operation parse(final String name) {
+        Operation candidate = switch (name.length()) {
+            case 4 -> switch (name.charAt(0) | 0x20) {
+                case 'r' -> READ;
+                case 'l' -> LOCK;
+                default -> null;
+            };
+            case 6 -> switch (name.charAt(0) | 0x20) {
+                case 'c' -> CREATE;
+                case 'u' -> (name.charAt(1) | 0x20) == 'p' ? UPDATE : UNLOCK;
+                case 'd' -> DELETE;
+                default -> null;
+            };
+            case 7 -> EXECUTE;
+            default -> null;
+        };
+        if (candidate == null || !candidate.name().regionMatches(true, 0, name, 0, name.length())) {
+            throw new IllegalArgumentException("Unknown operation: " + name);
+        }
+        return candidate;
+    }
+
+    /**
+     * Get bit of the operation in operations bitmask.
+     *
+     * @return bitmask having the only bit of this operation set.
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+
     @Override
     public String toString() {
         return super.toString().toLowerCase();
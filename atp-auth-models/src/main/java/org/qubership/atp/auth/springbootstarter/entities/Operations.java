@@ -84,4 +84,35 @@ public class Operations implements Serializable {
         }
         return permissionForOperation;
     }
+
+    /**
+     * Convert flags to bitmask of available operations.
+     *
+     * @return bitmask having bits of available operations set, see {@link Operation#getMask()}.
+     */
+    public int toMask() {
+        return (create ? Operation.CREATE.getMask() : 0)
+                | (read ? Operation.READ.getMask() : 0)
+                | (update ? Operation.UPDATE.getMask() : 0)
+                | (delete ? Operation.DELETE.getMask() : 0)
+                | (execute ? Operation.EXECUTE.getMask() : 0)
+                | (lock ? Operation.LOCK.getMask() : 0)
+                | (unlock ? Operation.UNLOCK.getMask() : 0);
+    }
+
+    /**
+     * Create Operations object from bitmask of available operations.
+     *
+     * @param mask bitmask having bits of available operations set, see {@link Operation#getMask()}
+     * @return Operations object.
+     */
+    public static Operations fromMask(final int mask) {
+        return new Operations((mask & Operation.CREATE.getMask()) != 0,
+                (mask & Operation.READ.getMask()) != 0,
+                (mask & Operation.UPDATE.getMask()) != 0,
+                (mask & Operation.DELETE.getMask()) != 0,
+                (mask & Operation.EXECUTE.getMask()) != 0,
+                (mask & Operation.LOCK.getMask()) != 0,
+                (mask & Operation.UNLOCK.getMask()) != 0);
+    }
 }
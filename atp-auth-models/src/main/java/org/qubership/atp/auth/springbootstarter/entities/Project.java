@@ -16,13 +16,17 @@
 
 package org.qubership.atp.auth.springbootstarter.entities;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
-import org.springframework.util.CollectionUtils;
+import org.qubership.atp.auth.springbootstarter.collections.UuidSet;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
@@ -69,6 +73,51 @@ public class Project implements Serializable {
      */
     private Permissions permissions;
 
+    /**
+     * Set QA/TA Leads of the Project; kept as immutable compact set.
+     *
+     * @param userIds Set of user uuids.
+     */
+    public void setLeads(final Set<UUID> userIds) {
+        this.leads = toUuidSet(userIds);
+    }
+
+    /**
+     * Set QA/TA Engineers of the Project; kept as immutable compact set.
+     *
+     * @param userIds Set of user uuids.
+     */
+    public void setQaTaEngineers(final Set<UUID> userIds) {
+        this.qaTaEngineers = toUuidSet(userIds);
+    }
+
+    /**
+     * Set DevOps Engineers of the Project; kept as immutable compact set.
+     *
+     * @param userIds Set of user uuids.
+     */
+    public void setDevOpsEngineers(final Set<UUID> userIds) {
+        this.devOpsEngineers = toUuidSet(userIds);
+    }
+
+    /**
+     * Set Runners of the Project; kept as immutable compact set.
+     *
+     * @param userIds Set of user uuids.
+     */
+    public void setAtpRunners(final Set<UUID> userIds) {
+        this.atpRunners = toUuidSet(userIds);
+    }
+
+    /**
+     * Set Support users of the Project; kept as immutable compact set.
+     *
+     * @param userIds Set of user uuids.
+     */
+    public void setAtpSupports(final Set<UUID> userIds) {
+        this.atpSupports = toUuidSet(userIds);
+    }
+
     /**
      * Return {@link Group} for currently authenticated user by project.
      *
@@ -77,6 +126,17 @@ public class Project implements Serializable {
      * @return {@link Group} the most privileged Group the User belongs to.
      */
     public Group getUserGroup(final UUID userId, final Set<String> userRoles) {
+        return getUserGroup(userId, Role.toMask(userRoles));
+    }
+
+    /**
+     * Return {@link Group} for currently authenticated user by project.
+     *
+     * @param userId to check groups
+     * @param roleMask bitmask of user roles, see {@link Role#toMask(java.util.Collection)}
+     * @return {@link Group} the most privileged Group the User belongs to.
+     */
+    public Group getUserGroup(final UUID userId, final int roleMask) {
         if (!Objects.isNull(leads) && leads.contains(userId)) {
             return Group.LEAD;
         }
@@ -93,20 +153,55 @@ public class Project implements Serializable {
             return Group.EXECUTOR;
         }
 
-        if (isSupportGroup(userRoles) || isSupportGroupByUserId(userId)) {
+        if (Role.ATP_SUPPORT.isSet(roleMask) || isSupportGroupByUserId(userId)) {
             return Group.SUPPORT;
         }
 
         return Group.DEFAULT;
     }
 
-    private boolean isSupportGroupByUserId(final UUID userId) {
-        return !Objects.isNull(atpSupports) && atpSupports.contains(userId);
+    private static Set<UUID> toUuidSet(final Set<UUID> uuids) {
+        return uuids == null ? null : UuidSet.copyOf(uuids);
+    }
+
+    private static Set<UUID> toHashSet(final Set<UUID> uuids) {
+        return uuids == null ? null : new HashSet<>(uuids);
     }
 
-    private boolean isSupportGroup(final Set<String> userRoles) {
-        return !CollectionUtils.isEmpty(userRoles) && userRoles
-                .stream()
-                .anyMatch(role -> Role.ATP_SUPPORT.name().equalsIgnoreCase(role));
+    /**
+     * Write members as HashSet, so the serialized form is the same as before UuidSet
+     * and can be read by library versions without UuidSet (e.g. from shared caches).
+     */
+    @Serial
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("uuid", uuid);
+        fields.put("leads", toHashSet(leads));
+        fields.put("qaTaEngineers", toHashSet(qaTaEngineers));
+        fields.put("devOpsEngineers", toHashSet(devOpsEngineers));
+        fields.put("atpRunners", toHashSet(atpRunners));
+        fields.put("atpSupports", toHashSet(atpSupports));
+        fields.put("permissions", permissions);
+        out.writeFields();
+    }
+
+    /**
+     * Read members of any Set type and keep them as compact sets.
+     */
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        uuid = (UUID) fields.get("uuid", null);
+        leads = toUuidSet((Set<UUID>) fields.get("leads", null));
+        qaTaEngineers = toUuidSet((Set<UUID>) fields.get("qaTaEngineers", null));
+        devOpsEngineers = toUuidSet((Set<UUID>) fields.get("devOpsEngineers", null));
+        atpRunners = toUuidSet((Set<UUID>) fields.get("atpRunners", null));
+        atpSupports = toUuidSet((Set<UUID>) fields.get("atpSupports", null));
+        permissions = (Permissions) fields.get("permissions", null);
+    }
+
+    private boolean isSupportGroupByUserId(final UUID userId) {
+        return !Objects.isNull(atpSupports) && atpSupports.contains(userId);
     }
 }
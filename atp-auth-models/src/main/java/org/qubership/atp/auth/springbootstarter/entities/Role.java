@@ -16,6 +16,8 @@
 
 package org.qubership.atp.auth.springbootstarter.entities;
 
+import java.util.Collection;
+
 public enum Role {
 
     /**
@@ -29,5 +31,49 @@ public enum Role {
     /**
      * Support role.
      */
-    ATP_SUPPORT
+    ATP_SUPPORT;
+
+    /**
+     * All roles; cached to not copy values() on each call.
+     */
+    private static final Role[] VALUES = values();
+
+    /**
+     * Get bit of the role in roles bitmask.
+     *
+     * @return bitmask having the only bit of this role set.
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Check if the role is set in the bitmask.
+     *
+     * @param roleMask bitmask of roles, see {@link #toMask(Collection)}
+     * @return true if the bit of this role is set.
+     */
+    public boolean isSet(final int roleMask) {
+        return (roleMask & getMask()) != 0;
+    }
+
+    /**
+     * Build bitmask of roles from role names, ignoring case; names of other roles are skipped.
+     *
+     * @param roleNames Collection of role names
+     * @return bitmask of roles.
+     */
+    public static int toMask(final Collection<String> roleNames) {
+        int mask = 0;
+        if (roleNames != null) {
+            for (String roleName : roleNames) {
+                for (Role role : VALUES) {
+                    if (role.name().equalsIgnoreCase(roleName)) {
+                        mask |= role.getMask();
+                    }
+                }
+            }
+        }
+        return mask;
+    }
 }
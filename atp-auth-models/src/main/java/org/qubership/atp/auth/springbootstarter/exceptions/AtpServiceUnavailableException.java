@@ -0,0 +1,39 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "ATP-0006")
+public class AtpServiceUnavailableException extends AtpException {
+
+    /**
+     * Default parametrized message with Service name and Cause parameters.
+     */
+    public static final String DEFAULT_MESSAGE = "Service %s is unavailable: %s";
+
+    /**
+     * Example: Service atp-users is unavailable: circuit breaker is open.
+     *
+     * @param service Service name
+     * @param cause Description of the cause.
+     */
+    public AtpServiceUnavailableException(final String service, final String cause) {
+        super(DEFAULT_MESSAGE.formatted(service, cause));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.codec;
+
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.Getter;
+
+/**
+ * Binary Jackson data formats which can be requested from the server instead of JSON.
+ * Format libraries are optional dependencies: jackson-dataformat-smile or jackson-dataformat-cbor
+ * must be added by the application using the format.
+ */
+@Getter
+public enum BinaryFormat {
+
+    NONE(null),
+    SMILE("application/x-jackson-smile"),
+    CBOR("application/cbor");
+
+    /**
+     * Media type of the format.
+     */
+    private final String mediaType;
+
+    BinaryFormat(final String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Create Jackson factory for the format.
+     *
+     * @return JsonFactory object, or null for NONE.
+     */
+    public JsonFactory createFactory() {
+        return switch (this) {
+            case SMILE -> Smile.createFactory();
+            case CBOR -> Cbor.createFactory();
+            default -> null;
+        };
+    }
+
+    /**
+     * Get format by its name, case-insensitive.
+     *
+     * @param name format name (none, smile, cbor)
+     * @return BinaryFormat object.
+     */
+    public static BinaryFormat fromName(final String name) {
+        return name == null || name.isBlank() ? NONE : valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Factory of Smile format; loaded only when the format is used.
+     */
+    private static final class Smile {
+
+        private static JsonFactory createFactory() {
+            return new SmileFactory();
+        }
+    }
+
+    /**
+     * Factory of CBOR format; loaded only when the format is used.
+     */
+    private static final class Cbor {
+
+        private static JsonFactory createFactory() {
+            return new CBORFactory();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import feign.Util;
+
+/**
+ * Requests compressed (and optionally binary encoded) responses, and compresses large request bodies.
+ * The request body is compressed here rather than by the transport,
+ * so it works in the same way for OkHttp and Apache http client transports.
+ */
+public class ContentEncodingRequestInterceptor implements RequestInterceptor {
+
+    /**
+     * Accept-Encoding header name.
+     */
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    /**
+     * Accept header name.
+     */
+    private static final String ACCEPT = "Accept";
+
+    /**
+     * Request compressed responses.
+     */
+    private final boolean compressResponses;
+
+    /**
+     * Compress request bodies.
+     */
+    private final boolean compressRequests;
+
+    /**
+     * Minimum size of request body to be compressed, in bytes.
+     */
+    private final int minRequestSize;
+
+    /**
+     * Value of Accept header, or null if binary format isn't requested.
+     */
+    private final String accept;
+
+    /**
+     * Constructor.
+     *
+     * @param compressResponses request compressed responses
+     * @param compressRequests compress request bodies
+     * @param minRequestSize minimum size of request body to be compressed, in bytes
+     * @param binaryFormat binary format requested in addition to JSON.
+     */
+    public ContentEncodingRequestInterceptor(final boolean compressResponses,
+                                             final boolean compressRequests,
+                                             final int minRequestSize,
+                                             final BinaryFormat binaryFormat) {
+        this.compressResponses = compressResponses;
+        this.compressRequests = compressRequests;
+        this.minRequestSize = minRequestSize;
+        this.accept = binaryFormat == BinaryFormat.NONE
+                ? null
+                : binaryFormat.getMediaType() + ", application/json;q=0.9";
+    }
+
+    /**
+     * Add content negotiation headers and compress request body if needed.
+     *
+     * @param template RequestTemplate object.
+     */
+    @Override
+    public void apply(final RequestTemplate template) {
+        if (compressResponses && !template.headers().containsKey(ACCEPT_ENCODING)) {
+            template.header(ACCEPT_ENCODING, Util.ENCODING_GZIP + ", " + Util.ENCODING_DEFLATE);
+        }
+        if (accept != null && !template.headers().containsKey(ACCEPT)) {
+            template.header(ACCEPT, accept);
+        }
+        if (compressRequests) {
+            compressBody(template);
+        }
+    }
+
+    private void compressBody(final RequestTemplate template) {
+        byte[] body = template.body();
+        if (body == null || body.length < minRequestSize || template.headers().containsKey(Util.CONTENT_ENCODING)) {
+            return;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        template.body(compressed.toByteArray(), null);
+        template.header(Util.CONTENT_ENCODING, Util.ENCODING_GZIP);
+    }
+}
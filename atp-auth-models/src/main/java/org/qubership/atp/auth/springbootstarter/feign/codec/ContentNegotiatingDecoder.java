@@ -0,0 +1,127 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.lang.reflect.Type;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.Response;
+import feign.Util;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+
+/**
+ * Decodes Feign response bodies choosing Jackson mapper by Content-Type of the response:
+ * JSON or the binary format (Smile or CBOR) requested via Accept header.
+ * Compressed bodies are decompressed on the fly, without buffering of the whole body.
+ * ObjectReaders are built once per target type and format, and reused for all responses.
+ */
+public class ContentNegotiatingDecoder implements Decoder {
+
+    /**
+     * Mapper for JSON bodies.
+     */
+    private final ObjectMapper jsonMapper;
+
+    /**
+     * Binary format expected in addition to JSON.
+     */
+    private final BinaryFormat binaryFormat;
+
+    /**
+     * Mapper for binary bodies; it has the same configuration as the JSON one.
+     */
+    private final ObjectMapper binaryMapper;
+
+    /**
+     * JSON readers by target type.
+     */
+    private final Map<Type, ObjectReader> jsonReaders = new ConcurrentHashMap<>();
+
+    /**
+     * Binary format readers by target type.
+     */
+    private final Map<Type, ObjectReader> binaryReaders = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param jsonMapper mapper for JSON bodies
+     * @param binaryFormat binary format expected in addition to JSON.
+     */
+    public ContentNegotiatingDecoder(final ObjectMapper jsonMapper, final BinaryFormat binaryFormat) {
+        this.jsonMapper = jsonMapper;
+        this.binaryFormat = binaryFormat;
+        this.binaryMapper = binaryFormat == BinaryFormat.NONE
+                ? null
+                : jsonMapper.copyWith(binaryFormat.createFactory());
+    }
+
+    /**
+     * Decode response body.
+     *
+     * @param response Response received
+     * @param type Type of body
+     * @return decoded object.
+     */
+    @Override
+    public Object decode(final Response response, final Type type) throws IOException {
+        if (response.body() == null) {
+            return Util.emptyValueOf(type);
+        }
+        try (InputStream body = ResponseBodies.open(response)) {
+            if (byte[].class.equals(type)) {
+                return body.readAllBytes();
+            }
+            if (String.class.equals(type)) {
+                return new String(body.readAllBytes(), response.charset());
+            }
+            PushbackInputStream stream = new PushbackInputStream(body, 1);
+            int first = stream.read();
+            if (first == -1) {
+                return Util.emptyValueOf(type);
+            }
+            stream.unread(first);
+            return readerFor(response, type).readValue(stream);
+        } catch (JsonProcessingException e) {
+            throw new DecodeException(response.status(), "Failed to decode response body to %s: %s"
+                    .formatted(type, e.getOriginalMessage()), response.request(), e);
+        }
+    }
+
+    private ObjectReader readerFor(final Response response, final Type type) {
+        if (binaryMapper != null) {
+            String contentType = ResponseBodies.firstHeader(response, "Content-Type");
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(binaryFormat.getMediaType())) {
+                return binaryReaders.computeIfAbsent(type, key -> createReader(binaryMapper, key));
+            }
+        }
+        return jsonReaders.computeIfAbsent(type, key -> createReader(jsonMapper, key));
+    }
+
+    private static ObjectReader createReader(final ObjectMapper mapper, final Type type) {
+        return mapper.readerFor(mapper.constructType(type));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import feign.Response;
+import feign.Util;
+
+/**
+ * Utility methods to read Feign response bodies.
+ */
+public final class ResponseBodies {
+
+    /**
+     * Buffer size for decompressing streams.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    private ResponseBodies() {
+    }
+
+    /**
+     * Open response body stream, decompressing it according to Content-Encoding header.
+     * Transports which decompress the body themselves (Apache http client, OkHttp transparent gzip)
+     * remove Content-Encoding header, so the body isn't decompressed twice.
+     *
+     * @param response Feign response with not null body
+     * @return InputStream of the decoded body.
+     */
+    public static InputStream open(final Response response) throws IOException {
+        InputStream body = response.body().asInputStream();
+        String encoding = firstHeader(response, Util.CONTENT_ENCODING);
+        if (encoding == null) {
+            return body;
+        }
+        return switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+            case Util.ENCODING_GZIP, "x-gzip" -> new GZIPInputStream(body, BUFFER_SIZE);
+            case Util.ENCODING_DEFLATE -> new InflaterInputStream(body);
+            default -> body;
+        };
+    }
+
+    /**
+     * Get the first value of response header.
+     *
+     * @param response Feign response
+     * @param name header name (case-insensitive)
+     * @return header value or null if there is no such header.
+     */
+    public static String firstHeader(final Response response, final String name) {
+        if (response.headers() == null) {
+            return null;
+        }
+        Collection<String> values = response.headers().get(name);
+        if (values == null) {
+            values = response.headers().get(name.toLowerCase(Locale.ROOT));
+        }
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+}
@@ -17,6 +17,7 @@
 package org.qubership.atp.auth.springbootstarter.feign.exception;
 
 import java.io.Serial;
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
 
@@ -56,6 +57,11 @@ public class FeignClientException extends RetryableException {
      */
     private final Map<String, Collection<String>> headers;
 
+    /**
+     * Message and reason parsed from the error body; null if the body isn't parsed yet.
+     */
+    private final ErrorDetails errorDetails;
+
     /**
      * Constructor for {@link FeignClientException}.
      *
@@ -70,12 +76,62 @@ public class FeignClientException extends RetryableException {
                                 final Request.HttpMethod httpMethod,
                                 final Map<String, Collection<String>> headers,
                                 final Request request) {
-        super(status, "%d %s".formatted(status, errorMessage), httpMethod, (Long) null, request);
+        this(status, errorMessage, httpMethod, headers, request, null);
+    }
+
+    /**
+     * Constructor for {@link FeignClientException} with error body already parsed.
+     *
+     * @param status Http Status code
+     * @param errorMessage Error message
+     * @param httpMethod Http Method
+     * @param headers Http headers map
+     * @param request Http Request
+     * @param errorDetails message and reason parsed from the error body.
+     */
+    public FeignClientException(final Integer status,
+                                final String errorMessage,
+                                final Request.HttpMethod httpMethod,
+                                final Map<String, Collection<String>> headers,
+                                final Request request,
+                                final ErrorDetails errorDetails) {
+        this(status, errorMessage, httpMethod, headers, request, errorDetails, null);
+    }
+
+    /**
+     * Constructor for {@link FeignClientException} with error body already parsed and Retry-After known.
+     *
+     * @param status Http Status code
+     * @param errorMessage Error message
+     * @param httpMethod Http Method
+     * @param headers Http headers map
+     * @param request Http Request
+     * @param errorDetails message and reason parsed from the error body
+     * @param retryAfter epoch millis from Retry-After header, or null if there is no such header.
+     */
+    public FeignClientException(final Integer status,
+                                final String errorMessage,
+                                final Request.HttpMethod httpMethod,
+                                final Map<String, Collection<String>> headers,
+                                final Request request,
+                                final ErrorDetails errorDetails,
+                                final Long retryAfter) {
+        super(status, "%d %s".formatted(status, errorMessage), httpMethod, retryAfter, request);
         this.status = status;
         this.errorMessage = errorMessage;
         this.headers = headers;
         this.httpMethod = httpMethod;
         this.request = request;
+        this.errorDetails = errorDetails;
     }
 
+    /**
+     * Known fields of the error body; any of them is null if there is no such field
+     * (or the body isn't a JSON object).
+     *
+     * @param message 'message' field
+     * @param reason 'reason' field.
+     */
+    public record ErrorDetails(String message, String reason) implements Serializable {
+    }
 }
@@ -17,26 +17,65 @@
 package org.qubership.atp.auth.springbootstarter.feign.exception;
 
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
+import org.qubership.atp.auth.springbootstarter.feign.codec.ResponseBodies;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import feign.Response;
 import feign.Util;
-import feign.codec.DecodeException;
 import feign.codec.ErrorDecoder;
-import feign.codec.StringDecoder;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Decodes a failed request response building a FeignClientException.
- * Any error decoding the response body will be thrown as a FeignClientErrorDecodingException
+ * Only first maxBodySize bytes of the body are read, so huge error pages can't exhaust memory.
+ * Known fields ('message', 'reason') are parsed from these bytes in one streaming pass
+ * and stored into the exception, so they aren't parsed again while handling the exception.
  */
 @Slf4j
 public class FeignClientExceptionErrorDecoder implements ErrorDecoder {
 
     /**
-     * String decoder object.
+     * Default maximum number of error body bytes to read.
+     */
+    public static final int DEFAULT_MAX_BODY_SIZE = 64 * 1024;
+
+    /**
+     * Retry-After header name.
+     */
+    private static final String RETRY_AFTER = "Retry-After";
+
+    /**
+     * Factory of streaming JSON parsers.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Maximum number of error body bytes to read.
      */
-    private final StringDecoder stringDecoder = new StringDecoder();
+    private final int maxBodySize;
+
+    /**
+     * Constructor with default body size limit.
+     */
+    public FeignClientExceptionErrorDecoder() {
+        this(DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxBodySize maximum number of error body bytes to read.
+     */
+    public FeignClientExceptionErrorDecoder(final int maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
 
     /**
      * Decode exception from response.
@@ -48,34 +87,90 @@ public class FeignClientExceptionErrorDecoder implements ErrorDecoder {
     @Override
     public FeignClientException decode(final String methodKey, final Response response) {
         String message = "Null Response Body.";
-        try {
-            if (response.body() != null) {
-                message = decode(response, String.class).toString();
-            } else {
-                message = stringDecoder.decode(response, String.class).toString();
+        FeignClientException.ErrorDetails errorDetails = null;
+        if (response.body() != null) {
+            try (InputStream body = ResponseBodies.open(response)) {
+                byte[] bytes = body.readNBytes(maxBodySize);
+                if (bytes.length == maxBodySize && body.read() != -1) {
+                    log.warn("{} Error response body exceeds {} bytes and is truncated.", methodKey, maxBodySize);
+                }
+                message = new String(bytes, Util.UTF_8);
+                errorDetails = parseErrorDetails(bytes);
+            } catch (IOException e) {
+                log.error("{} Error Deserializing response body from failed feign request response.", methodKey, e);
             }
-        } catch (IOException e) {
-            log.error("{} Error Deserializing response body from failed feign request response.", methodKey, e);
         }
         return new FeignClientException(response.status(), message, response.request().httpMethod(),
-                response.headers(), response.request());
+                response.headers(), response.request(), errorDetails,
+                parseRetryAfter(ResponseBodies.firstHeader(response, RETRY_AFTER)));
     }
 
     /**
-     * Decode response.
+     * Parse Retry-After header: either delay in seconds or http date.
      *
-     * @param response Response received
-     * @param type Type of body
-     * @return decoded exception object.
+     * @param retryAfter header value, may be null
+     * @return epoch millis to retry after, or null if the header is absent or invalid.
+     */
+    static Long parseRetryAfter(final String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        String value = retryAfter.trim();
+        try {
+            if (value.chars().allMatch(Character::isDigit)) {
+                return afterSeconds(value);
+            }
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (NumberFormatException | DateTimeParseException e) {
+            log.debug("Invalid Retry-After header: {}", value);
+            return null;
+        }
+    }
+
+    /**
+     * Get epoch millis after the delay in seconds.
+     *
+     * @param seconds delay in seconds, digits only
+     * @return epoch millis, or Long.MAX_VALUE if the delay is too large (it's never waited for then).
+     */
+    private static long afterSeconds(final String seconds) {
+        try {
+            return Math.addExact(System.currentTimeMillis(), Math.multiplyExact(Long.parseLong(seconds), 1000L));
+        } catch (NumberFormatException | ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Parse top-level 'message' and 'reason' fields of the JSON body.
+     * Parsing stops as soon as both fields are found; for non-JSON or truncated body
+     * the fields found before the error are returned.
+     *
+     * @param body body bytes
+     * @return ErrorDetails object.
      */
-    private Object decode(final Response response, final Type type) throws IOException {
-        Response.Body body = response.body();
-        if (String.class.equals(type)) {
-            return Util.toString(body.asReader(Util.UTF_8));
-        } else {
-            throw new DecodeException(response.status(),
-                    "%s is not a type supported by this decoder.".formatted(type),
-                    response.request());
+    private static FeignClientException.ErrorDetails parseErrorDetails(final byte[] body) {
+        String message = null;
+        String reason = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while ((message == null || reason == null) && parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                        if ("message".equals(field)) {
+                            message = parser.getText();
+                        } else if ("reason".equals(field)) {
+                            reason = parser.getText();
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Error response body isn't a valid JSON object: {}", e.getMessage());
         }
+        return new FeignClientException.ErrorDetails(message, reason);
     }
 }
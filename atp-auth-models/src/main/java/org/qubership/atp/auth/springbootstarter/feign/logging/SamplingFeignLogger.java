@@ -0,0 +1,209 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import org.qubership.atp.auth.springbootstarter.feign.codec.ResponseBodies;
+
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+/**
+ * Feign logger which logs only a sample of calls, and failed calls.
+ * The request is logged together with the response, once it's known if the call is sampled or failed,
+ * so nothing is formatted for calls which aren't logged. Successful calls are logged at DEBUG level;
+ * failed calls (4xx/5xx statuses and IO errors) are logged at WARN level, regardless of sampling.
+ * Only first maxBodySize bytes of a body are logged; the response body is not buffered as a whole:
+ * the logged prefix is stitched back to the rest of the stream.
+ */
+public class SamplingFeignLogger extends Logger {
+
+    /**
+     * Request headers which are never logged (lower case).
+     */
+    private static final Set<String> SENSITIVE_HEADERS = Set.of("authorization", "cookie", "proxy-authorization");
+
+    /**
+     * Logger to write to.
+     */
+    private final org.slf4j.Logger logger;
+
+    /**
+     * Fraction of successful calls to log, from 0 to 1.
+     */
+    private final double sampleRate;
+
+    /**
+     * Log failed calls regardless of sampling.
+     */
+    private final boolean alwaysLogErrors;
+
+    /**
+     * Maximum number of body bytes to log.
+     */
+    private final int maxBodySize;
+
+    /**
+     * Constructor.
+     *
+     * @param logger logger to write to
+     * @param sampleRate fraction of successful calls to log, from 0 to 1
+     * @param alwaysLogErrors log failed calls regardless of sampling
+     * @param maxBodySize maximum number of body bytes to log.
+     */
+    public SamplingFeignLogger(final org.slf4j.Logger logger,
+                               final double sampleRate,
+                               final boolean alwaysLogErrors,
+                               final int maxBodySize) {
+        this.logger = logger;
+        this.sampleRate = sampleRate;
+        this.alwaysLogErrors = alwaysLogErrors;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    protected void logRequest(final String configKey, final Level logLevel, final Request request) {
+        // The request is logged together with the response, see logAndRebufferResponse.
+    }
+
+    @Override
+    protected void logRetry(final String configKey, final Level logLevel) {
+        if (logger.isDebugEnabled()) {
+            log(configKey, "---> RETRYING");
+        }
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(final String configKey,
+                                              final Level logLevel,
+                                              final Response response,
+                                              final long elapsedTime) throws IOException {
+        boolean failed = response.status() >= 400;
+        boolean warn = failed && alwaysLogErrors && logger.isWarnEnabled();
+        if (!warn && !(logger.isDebugEnabled() && isSampled())) {
+            return response;
+        }
+        writeRequest(warn, configKey, logLevel, response.request());
+        String reason = response.reason() != null ? " " + response.reason() : "";
+        write(warn, configKey, "<--- HTTP/1.1 %s%s (%sms)", response.status(), reason, elapsedTime);
+        if (logLevel.ordinal() >= Level.HEADERS.ordinal()) {
+            writeHeaders(warn, configKey, response.headers(), this::shouldLogResponseHeader);
+        }
+        if (logLevel == Level.FULL && response.body() != null) {
+            return writeResponseBody(warn, configKey, response);
+        }
+        write(warn, configKey, "<--- END HTTP");
+        return response;
+    }
+
+    @Override
+    protected IOException logIOException(final String configKey,
+                                         final Level logLevel,
+                                         final IOException ioe,
+                                         final long elapsedTime) {
+        boolean warn = alwaysLogErrors && logger.isWarnEnabled();
+        if (warn || logger.isDebugEnabled() && isSampled()) {
+            write(warn, configKey, "<--- ERROR %s: %s (%sms)", ioe.getClass().getSimpleName(), ioe.getMessage(),
+                    elapsedTime);
+        }
+        return ioe;
+    }
+
+    /**
+     * Credentials aren't logged, since failed calls are logged at WARN level.
+     *
+     * @param header header name
+     * @return true if the header should be logged.
+     */
+    @Override
+    protected boolean shouldLogRequestHeader(final String header) {
+        return !SENSITIVE_HEADERS.contains(header.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    protected void log(final String configKey, final String format, final Object... args) {
+        write(false, configKey, format, args);
+    }
+
+    private void write(final boolean warn, final String configKey, final String format, final Object... args) {
+        String message = methodTag(configKey) + format.formatted(args);
+        if (warn) {
+            logger.warn(message);
+        } else {
+            logger.debug(message);
+        }
+    }
+
+    private void writeRequest(final boolean warn, final String configKey, final Level logLevel,
+                              final Request request) {
+        write(warn, configKey, "---> %s %s HTTP/1.1", request.httpMethod().name(), request.url());
+        if (logLevel.ordinal() >= Level.HEADERS.ordinal()) {
+            writeHeaders(warn, configKey, request.headers(), this::shouldLogRequestHeader);
+        }
+        byte[] body = request.body();
+        if (logLevel == Level.FULL && body != null && body.length > 0) {
+            Charset charset = request.charset() != null ? request.charset() : Util.UTF_8;
+            write(warn, configKey, "%s%s", new String(body, 0, Math.min(body.length, maxBodySize), charset),
+                    body.length > maxBodySize ? "... (truncated)" : "");
+        }
+        write(warn, configKey, "---> END HTTP (%s-byte body)", body != null ? body.length : 0);
+    }
+
+    private void writeHeaders(final boolean warn, final String configKey,
+                              final Map<String, Collection<String>> headers, final Predicate<String> filter) {
+        headers.forEach((name, values) -> {
+            if (filter.test(name)) {
+                values.forEach(value -> write(warn, configKey, "%s: %s", name, value));
+            }
+        });
+    }
+
+    private Response writeResponseBody(final boolean warn, final String configKey, final Response response)
+            throws IOException {
+        Integer length = response.body().length();
+        String encoding = ResponseBodies.firstHeader(response, Util.CONTENT_ENCODING);
+        if (encoding != null) {
+            write(warn, configKey, "<--- END HTTP (%s-encoded body)", encoding);
+            return response;
+        }
+        InputStream body = response.body().asInputStream();
+        byte[] prefix = body.readNBytes(maxBodySize);
+        boolean truncated = prefix.length == maxBodySize && (length == null || length > maxBodySize);
+        write(warn, configKey, "%s%s", new String(prefix, Util.UTF_8), truncated ? "... (truncated)" : "");
+        write(warn, configKey, "<--- END HTTP (%s-byte body)", length != null ? length : "unknown");
+        return response.toBuilder()
+                .body(new SequenceInputStream(new ByteArrayInputStream(prefix), body), length)
+                .build();
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1 || sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
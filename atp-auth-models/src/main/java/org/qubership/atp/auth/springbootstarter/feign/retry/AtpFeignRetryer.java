@@ -0,0 +1,180 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.retry;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feign retryer which retries only idempotent requests failed with retryable statuses or connection errors.
+ * Every FeignClientException is a RetryableException, so without this filter 400/403/404 responses
+ * would be retried too.
+ * Delay between attempts grows exponentially with jitter; Retry-After of the response is honored
+ * unless it exceeds the configured maximum (then the error is propagated immediately).
+ * Each retry withdraws a token from the retry budget of the client (plus the deposit its attempt makes),
+ * so retries can't exceed the configured fraction of the client calls.
+ * Feign clones the retryer for each call; the clones share the policy, budgets and meters.
+ */
+@Slf4j
+public class AtpFeignRetryer implements Retryer {
+
+    /**
+     * Idempotent http methods.
+     */
+    private static final Set<Request.HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(Request.HttpMethod.GET,
+            Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS, Request.HttpMethod.PUT, Request.HttpMethod.DELETE,
+            Request.HttpMethod.TRACE);
+
+    /**
+     * Retry settings.
+     */
+    private final Policy policy;
+
+    /**
+     * Retry budgets of clients.
+     */
+    private final RetryBudgets budgets;
+
+    /**
+     * Registry of retry meters.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Number of attempts made by the call.
+     */
+    private int attempt = 1;
+
+    /**
+     * Constructor.
+     *
+     * @param policy retry settings
+     * @param budgets retry budgets of clients
+     * @param meterRegistry registry of retry meters.
+     */
+    public AtpFeignRetryer(final Policy policy, final RetryBudgets budgets, final MeterRegistry meterRegistry) {
+        this.policy = policy;
+        this.budgets = budgets;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Sleep before the next attempt, or propagate the exception if the call shouldn't be retried.
+     *
+     * @param exception exception of the last attempt.
+     */
+    @Override
+    public void continueOrPropagate(final RetryableException exception) {
+        String client = RetryBudgets.clientName(exception.request());
+        if (!isRetryable(exception)) {
+            count(client, "not_retryable");
+            throw exception;
+        }
+        if (attempt >= policy.maxAttempts()) {
+            count(client, "attempts_exhausted");
+            throw exception;
+        }
+        long delay = delayMillis(exception);
+        if (delay < 0) {
+            count(client, "retry_after_too_long");
+            throw exception;
+        }
+        if (!budgets.budgetFor(client).tryWithdrawRetry()) {
+            count(client, "budget_exhausted");
+            throw exception;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw exception;
+        }
+        attempt++;
+        count(client, "retried");
+        log.debug("Retrying {} request to '{}' ({} attempt) after {} ms: {}",
+                exception.method(), client, attempt, delay, exception.getMessage());
+    }
+
+    /**
+     * Create a retryer for the next call.
+     *
+     * @return new AtpFeignRetryer object.
+     */
+    @Override
+    public Retryer clone() {
+        return new AtpFeignRetryer(policy, budgets, meterRegistry);
+    }
+
+    private boolean isRetryable(final RetryableException exception) {
+        if (exception.method() == null || !IDEMPOTENT_METHODS.contains(exception.method())) {
+            return false;
+        }
+        int status = exception.status();
+        return status <= 0 || policy.retryableStatuses().contains(status);
+    }
+
+    /**
+     * Get delay before the next attempt.
+     *
+     * @param exception exception of the last attempt
+     * @return delay in milliseconds, or -1 if Retry-After of the response is too long.
+     */
+    private long delayMillis(final RetryableException exception) {
+        Long retryAfter = exception.retryAfter();
+        if (retryAfter != null) {
+            long delay = Math.max(0, retryAfter - System.currentTimeMillis());
+            return delay <= policy.maxRetryAfter().toMillis() ? delay : -1;
+        }
+        long backoff = Math.min(policy.maxBackoff().toMillis(),
+                policy.initialBackoff().toMillis() << Math.min(attempt - 1, 30));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private void count(final String client, final String result) {
+        Counter.builder("atp.auth.feign.retry")
+                .description("Decisions of Feign retryer")
+                .tag("client", client)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Retry settings.
+     *
+     * @param maxAttempts maximum number of attempts, including the first one
+     * @param initialBackoff delay before the first retry
+     * @param maxBackoff maximum delay between attempts
+     * @param maxRetryAfter maximum Retry-After to wait for
+     * @param retryableStatuses http statuses to retry.
+     */
+    public record Policy(int maxAttempts,
+                         Duration initialBackoff,
+                         Duration maxBackoff,
+                         Duration maxRetryAfter,
+                         Set<Integer> retryableStatuses) {
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket limiting retries to a fraction of requests.
+ * Each request deposits 'ratio' of a token, each retry withdraws a whole token;
+ * the bucket holds no more than 'maxTokens', which bounds a burst of retries after a quiet period.
+ * Tokens are kept as thousandths in AtomicLong, so the bucket is lock-free.
+ */
+public class RetryBudget {
+
+    /**
+     * Thousandths of a token in a whole token.
+     */
+    private static final long TOKEN = 1000;
+
+    /**
+     * Thousandths of a token deposited per request.
+     */
+    private final long deposit;
+
+    /**
+     * Maximum number of tokens, in thousandths.
+     */
+    private final long capacity;
+
+    /**
+     * Tokens available, in thousandths.
+     */
+    private final AtomicLong balance;
+
+    /**
+     * Constructor. The bucket is full initially.
+     *
+     * @param ratio fraction of requests which can be retried, e.g. 0.1
+     * @param maxTokens maximum number of tokens (retries in a burst).
+     */
+    public RetryBudget(final double ratio, final int maxTokens) {
+        if (ratio < 0 || maxTokens < 1) {
+            throw new IllegalArgumentException("Retry budget ratio must be non-negative and max tokens positive: %s, %d"
+                    .formatted(ratio, maxTokens));
+        }
+        this.deposit = Math.round(ratio * TOKEN);
+        this.capacity = maxTokens * TOKEN;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Deposit tokens for a request.
+     */
+    public void deposit() {
+        if (balance.get() < capacity) {
+            balance.accumulateAndGet(deposit, (current, value) -> Math.min(capacity, current + value));
+        }
+    }
+
+    /**
+     * Withdraw a token for a retry.
+     *
+     * @return true if the retry is allowed by the budget.
+     */
+    public boolean tryWithdraw() {
+        return tryWithdraw(TOKEN, TOKEN);
+    }
+
+    /**
+     * Withdraw a token for a retry together with the deposit the retried attempt will make
+     * (as much of it as is available), so retries of a call don't replenish the budget.
+     *
+     * @return true if the retry is allowed by the budget.
+     */
+    public boolean tryWithdrawRetry() {
+        return tryWithdraw(TOKEN, TOKEN + deposit);
+    }
+
+    /**
+     * Get number of available tokens.
+     *
+     * @return number of tokens (retries allowed right now).
+     */
+    public double getTokens() {
+        return (double) balance.get() / TOKEN;
+    }
+
+    private boolean tryWithdraw(final long required, final long amount) {
+        long current;
+        do {
+            current = balance.get();
+            if (current < required) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - Math.min(current, amount)));
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.feign.retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import feign.Target;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Retry budgets of Feign clients, one per client name.
+ * As RequestInterceptor, it deposits tokens to the client's budget for every request sent.
+ * Feign applies interceptors on each attempt of a call, so the deposit of a retried attempt is withdrawn
+ * together with the retry token (see {@link RetryBudget#tryWithdrawRetry()}); only calls replenish the budget.
+ */
+public class RetryBudgets implements RequestInterceptor {
+
+    /**
+     * Client name used when the request doesn't refer to Feign target.
+     */
+    private static final String DEFAULT_CLIENT = "default";
+
+    /**
+     * Fraction of requests which can be retried.
+     */
+    private final double ratio;
+
+    /**
+     * Maximum number of tokens in a budget.
+     */
+    private final int maxTokens;
+
+    /**
+     * Registry to expose budgets gauges.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Budgets by client name.
+     */
+    private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param ratio fraction of requests which can be retried
+     * @param maxTokens maximum number of tokens in a budget
+     * @param meterRegistry registry to expose budgets gauges.
+     */
+    public RetryBudgets(final double ratio, final int maxTokens, final MeterRegistry meterRegistry) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Deposit tokens to the budget of the client sending the request.
+     *
+     * @param template RequestTemplate object.
+     */
+    @Override
+    public void apply(final RequestTemplate template) {
+        budgetFor(clientName(template)).deposit();
+    }
+
+    /**
+     * Get retry budget of the client.
+     *
+     * @param clientName name of Feign client
+     * @return RetryBudget object.
+     */
+    public RetryBudget budgetFor(final String clientName) {
+        RetryBudget budget = budgets.get(clientName);
+        return budget != null ? budget : budgets.computeIfAbsent(clientName, this::createBudget);
+    }
+
+    /**
+     * Get name of Feign client which sent the request.
+     *
+     * @param request Request object, may be null
+     * @return client name.
+     */
+    public static String clientName(final Request request) {
+        return request == null ? DEFAULT_CLIENT : clientName(request.requestTemplate());
+    }
+
+    private static String clientName(final RequestTemplate template) {
+        Target<?> target = template == null ? null : template.feignTarget();
+        return target == null || target.name() == null ? DEFAULT_CLIENT : target.name();
+    }
+
+    private RetryBudget createBudget(final String clientName) {
+        RetryBudget budget = new RetryBudget(ratio, maxTokens);
+        Gauge.builder("atp.auth.feign.retry.budget", budget, RetryBudget::getTokens)
+                .description("Retries allowed by the retry budget of Feign client")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        return budget;
+    }
+}
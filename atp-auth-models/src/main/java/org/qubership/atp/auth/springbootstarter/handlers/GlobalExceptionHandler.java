@@ -113,14 +113,27 @@ public class GlobalExceptionHandler {
 
     private ResponseEntity<ErrorResponse> getFeignClientExceptionResponse(final Exception exception) throws Exception {
         FeignClientException feignException = (FeignClientException) exception;
-        String errorMessage = feignException.getErrorMessage();
-        JsonNode errorNode = feignClientObjectMapper.readTree(errorMessage);
+        String message;
+        String reason;
+        FeignClientException.ErrorDetails errorDetails = feignException.getErrorDetails();
+        if (errorDetails != null) {
+            message = errorDetails.message();
+            reason = errorDetails.reason() != null ? errorDetails.reason() : StringUtils.EMPTY;
+        } else {
+            JsonNode errorNode = feignClientObjectMapper.readTree(feignException.getErrorMessage());
+            message = errorNode.path("message").asText(StringUtils.EMPTY);
+            reason = errorNode.path("reason").asText(StringUtils.EMPTY);
+        }
 
         Integer status = feignException.getStatus();
         String url = feignException.getRequest().url();
         String path = new URI(url).toURL().getPath();
-        String message = errorNode.get("message").asText();
-        String reason = errorNode.get("reason").asText();
+        if (StringUtils.isEmpty(message)) {
+            // The raw body (e.g. HTML page or stack trace of the downstream service) isn't returned to the client
+            log.warn("Error response of {} without message, status {}: {}", url, status,
+                    feignException.getErrorMessage());
+            message = getDefaultMessage(status);
+        }
 
         ErrorResponse error = ErrorResponse.builder()
                 .status(status)
@@ -132,4 +145,9 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(valueOf(status)).body(error);
     }
+
+    private static String getDefaultMessage(final Integer status) {
+        HttpStatus httpStatus = status == null ? null : HttpStatus.resolve(status);
+        return httpStatus == null ? AtpException.DEFAULT_MESSAGE : httpStatus.getReasonPhrase();
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.auth.springbootstarter.security.permissions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.qubership.atp.auth.springbootstarter.entities.Operation;
+
+/**
+ * Check access of the currently authenticated user via {@link PolicyEnforcement} before the method execution.
+ * It's a replacement of {@code @PreAuthorize("@entityAccess.checkAccess(#projectUuid, \"READ\")")}
+ * for the most common checks: the project parameter and the operation are resolved once per method,
+ * and each call is a direct call of PolicyEnforcement, without SpEL evaluation.
+ * <pre>
+ * &#64;AtpAuthorize(project = "projectUuid", operation = Operation.READ)
+ * public List&lt;Defect&gt; getDefectsByProjectUuid(&#64;PathVariable("projectUuid") String projectUuid)
+ * </pre>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AtpAuthorize {
+
+    /**
+     * Name of the method parameter holding project id: UUID, String or Set of UUIDs.
+     *
+     * @return parameter name.
+     */
+    String project();
+
+    /**
+     * Operation to check.
+     *
+     * @return Operation.
+     */
+    Operation operation();
+
+    /**
+     * Name of entity class to check access to; empty to check access to the project.
+     *
+     * @return entity name.
+     */
+    String entity() default "";
+}
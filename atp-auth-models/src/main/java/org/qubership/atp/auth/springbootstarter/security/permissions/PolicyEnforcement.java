@@ -25,6 +25,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.auth.springbootstarter.entities.Operation;
 import org.qubership.atp.auth.springbootstarter.entities.Permissions;
 import org.qubership.atp.auth.springbootstarter.entities.Project;
+import org.qubership.atp.auth.springbootstarter.utils.UuidUtils;
 
 /**
  * Check access entry point.
@@ -39,8 +40,8 @@ public interface PolicyEnforcement {
      * @return permission (true - allowed, false - forbidden).
      */
     default boolean checkAccess(String projectId, String action) {
-        return checkAccess(StringUtils.isBlank(projectId) ? null : UUID.fromString(projectId),
-                Operation.valueOf(action.toUpperCase()));
+        return checkAccess(StringUtils.isBlank(projectId) ? null : UuidUtils.parse(projectId),
+                Operation.parse(action));
     }
 
     /**
@@ -51,7 +52,7 @@ public interface PolicyEnforcement {
      * @return permission (true - allowed, false - forbidden).
      */
     default boolean checkAccess(UUID projectId, String action) {
-        return checkAccess(projectId, Operation.valueOf(action.toUpperCase()));
+        return checkAccess(projectId, Operation.parse(action));
     }
 
 
@@ -121,7 +122,7 @@ public interface PolicyEnforcement {
      * @return permission (true - allowed, false - forbidden).
      */
     default boolean checkAccess(String entityName, UUID projectId, String action) {
-        return checkAccess(entityName, projectId, Operation.valueOf(action.toUpperCase()));
+        return checkAccess(entityName, projectId, Operation.parse(action));
     }
 
     /**
@@ -134,7 +135,7 @@ public interface PolicyEnforcement {
      * @return permission (true - allowed, false - forbidden).
      */
     default boolean checkAccess(String entityName, String projectId, String action) {
-        return checkAccess(entityName, UUID.fromString(projectId), Operation.valueOf(action.toUpperCase()));
+        return checkAccess(entityName, UuidUtils.parse(projectId), Operation.parse(action));
     }
 
     /**
@@ -156,7 +157,7 @@ public interface PolicyEnforcement {
      * @param entityName Name of entity class
      * @param projectId Project id
      * @param objectId Object id
-     * @param operation Operation name (e.g. CREATE, READ, ...)
+     * @param operation Operation name in upper case (e.g. CREATE, READ, ...)
      * @return permission (true - allowed, false - forbidden).
      */
     default boolean checkAccess(String entityName, UUID projectId, UUID objectId, String operation) {
@@ -182,7 +183,7 @@ public interface PolicyEnforcement {
      * @param entityName Name of entity class
      * @param projectId Project id
      * @param objectIds Set of  Object ids
-     * @param operation Operation name (e.g. CREATE, READ, ...)
+     * @param operation Operation name in upper case (e.g. CREATE, READ, ...)
      * @return permission (true - allowed, false - forbidden).
      */
     default boolean checkAccess(String entityName,
@@ -211,8 +212,8 @@ public interface PolicyEnforcement {
      * @return permission (true - allowed, false - forbidden).
      */
     default boolean checkExternalAccess(String projectId, String action) {
-        return checkAccess(StringUtils.isBlank(projectId) ? null : UUID.fromString(projectId),
-                Operation.valueOf(action.toUpperCase()));
+        return checkAccess(StringUtils.isBlank(projectId) ? null : UuidUtils.parse(projectId),
+                Operation.parse(action));
     }
 
     /**
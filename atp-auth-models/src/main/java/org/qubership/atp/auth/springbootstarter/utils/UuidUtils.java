@@ -0,0 +1,119 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.auth.springbootstarter.utils;
+
+import java.util.UUID;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Allocation-free parsing of canonical (36 chars, 8-4-4-4-12) UUID strings.
+ * Most/least significant bits are parsed separately, so UUIDs can be stored as primitive longs
+ * without intermediate String or UUID objects.
+ */
+@UtilityClass
+public class UuidUtils {
+
+    /**
+     * Length of canonical UUID string.
+     */
+    public static final int UUID_LENGTH = 36;
+
+    /**
+     * Check if the chars are canonical UUID representation.
+     *
+     * @param chars buffer
+     * @param offset offset of UUID in the buffer
+     * @param length length of UUID in the buffer
+     * @return true if the chars can be parsed as UUID.
+     */
+    public static boolean isCanonical(final CharSequence chars, final int offset, final int length) {
+        if (length != UUID_LENGTH || chars.length() < offset + length) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = chars.charAt(offset + i);
+            boolean valid = i == 8 || i == 13 || i == 18 || i == 23 ? c == '-' : hexValue(c) >= 0;
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse UUID string.
+     * Canonical strings are parsed in place; other forms accepted by {@link UUID#fromString(String)}
+     * are passed to it.
+     *
+     * @param value UUID string
+     * @return UUID object.
+     * @throws IllegalArgumentException if the string isn't a valid UUID.
+     */
+    public static UUID parse(final String value) {
+        if (isCanonical(value, 0, value.length())) {
+            return new UUID(parseMostSignificantBits(value, 0), parseLeastSignificantBits(value, 0));
+        }
+        return UUID.fromString(value);
+    }
+
+    /**
+     * Parse most significant bits of canonical UUID.
+     *
+     * @param chars buffer
+     * @param offset offset of UUID in the buffer
+     * @return most significant bits.
+     */
+    public static long parseMostSignificantBits(final CharSequence chars, final int offset) {
+        return parseHex(chars, offset, 8) << 32
+                | parseHex(chars, offset + 9, 4) << 16
+                | parseHex(chars, offset + 14, 4);
+    }
+
+    /**
+     * Parse least significant bits of canonical UUID.
+     *
+     * @param chars buffer
+     * @param offset offset of UUID in the buffer
+     * @return least significant bits.
+     */
+    public static long parseLeastSignificantBits(final CharSequence chars, final int offset) {
+        return parseHex(chars, offset + 19, 4) << 48
+                | parseHex(chars, offset + 24, 12);
+    }
+
+    private static long parseHex(final CharSequence chars, final int offset, final int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            value = value << 4 | hexValue(chars.charAt(i));
+        }
+        return value;
+    }
+
+    private static int hexValue(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}